@@ -0,0 +1,61 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every core reporting failures into one collector: {@link BuzzAggregate} against the synchronized
+ * list plus {@code addSuppressed} it replaces. Both collectors are rebuilt each iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class BuzzAggregateBench {
+
+    private final Buzz failure = Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado");
+
+    BuzzAggregate aggregate;
+    List<Buzz> list;
+    Buzz root;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        aggregate = new BuzzAggregate();
+        list = Collections.synchronizedList(new ArrayList<>());
+        root = new Buzz(500, "BATCH", "lote");
+    }
+
+    @Benchmark
+    public void aggregate() {
+        aggregate.add(failure);
+    }
+
+    @Benchmark
+    public void synchronizedList() {
+        list.add(failure);
+    }
+
+    @Benchmark
+    public void addSuppressed() {
+        root.addSuppressed(failure);
+    }
+}
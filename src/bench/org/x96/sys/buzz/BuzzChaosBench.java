@@ -0,0 +1,61 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Cost of an injection point: absent, present but disabled, and firing 0.1% of the time. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzChaosBench {
+
+    private static final BuzzChaos.Point OFF = BuzzChaos.point("bench.off");
+    private static final BuzzChaos.Point ON = BuzzChaos.point("bench.on");
+
+    int x = 17;
+
+    @Setup
+    public void setup() {
+        BuzzChaos.configure("bench.on", BuzzChaos.Rule.probability(0.001, 0x1F4, "CHAOS", "x"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        BuzzChaos.clear();
+    }
+
+    @Benchmark
+    public int baseline() {
+        return x * 31;
+    }
+
+    @Benchmark
+    public int disabled() {
+        OFF.hit();
+        return x * 31;
+    }
+
+    @Benchmark
+    public int enabled() {
+        try {
+            ON.hit();
+            return x * 31;
+        } catch (Buzz buzz) {
+            return buzz.code();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzConstructBench {
+
+    int code = 404;
+    String bee = "NOT_FOUND";
+    String msg = "Recurso não encontrado";
+    Throwable cause = new IllegalStateException("Estado inválido");
+
+    @Benchmark
+    public Buzz three() {
+        return new Buzz(code, bee, msg);
+    }
+
+    @Benchmark
+    public Buzz four() {
+        return new Buzz(code, bee, msg, cause);
+    }
+
+    @Benchmark
+    public Buzz stackless() {
+        return Buzz.stackless(code, bee, msg);
+    }
+
+    @Benchmark
+    public Buzz cached() {
+        return Buzz.cached(code, bee, msg);
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return new Buzz(code, bee, msg).getMessage();
+    }
+
+    @Benchmark
+    public String getMessageCached() {
+        return Buzz.cached(code, bee, msg).getMessage();
+    }
+}
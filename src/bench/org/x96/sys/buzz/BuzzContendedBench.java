@@ -0,0 +1,61 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Every available core throwing at once; compare with the single-threaded numbers. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class BuzzContendedBench {
+
+    @Benchmark
+    public Buzz three() {
+        try {
+            throw new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+        } catch (Buzz buzz) {
+            return buzz;
+        }
+    }
+
+    @Benchmark
+    public Buzz stackless() {
+        try {
+            throw Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado");
+        } catch (Buzz buzz) {
+            return buzz;
+        }
+    }
+
+    @Benchmark
+    public Buzz cached() {
+        try {
+            throw Buzz.cached(404, "NOT_FOUND", "Recurso não encontrado");
+        } catch (Buzz buzz) {
+            return buzz;
+        }
+    }
+
+    @Benchmark
+    public String getMessage() {
+        try {
+            throw new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+        } catch (Buzz buzz) {
+            return buzz.getMessage();
+        }
+    }
+}
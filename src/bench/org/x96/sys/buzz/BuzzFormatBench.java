@@ -0,0 +1,45 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzFormatBench {
+
+    int code = 404;
+    String bee = "NOT_FOUND";
+    String msg = "Recurso não encontrado";
+
+    private final StringBuilder reused = new StringBuilder(128);
+
+    @Benchmark
+    public String format() {
+        return Buzz.format(code, bee, msg);
+    }
+
+    @Benchmark
+    public StringBuilder formatInto() {
+        reused.setLength(0);
+        return Buzz.format(code, bee, msg, reused);
+    }
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(
+                "%s [0x%X]%n%s [%s]%n%s > %s", "🦕", code, "🐝", bee, "🌵", msg);
+    }
+}
@@ -0,0 +1,81 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering one Buzz with a cause and 16 frames as JSON: {@link BuzzJson} into a reused buffer and
+ * through a stream, against building a String with a StringBuilder and encoding it. Run with
+ * {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzJsonBench {
+
+    private static final OutputStream DISCARD =
+            new OutputStream() {
+                @Override
+                public void write(int b) {}
+
+                @Override
+                public void write(byte[] b, int off, int len) {}
+            };
+
+    final Buzz buzz =
+            Buzz.captured(
+                    BuzzStack.Capture.top(16),
+                    404,
+                    "NOT_FOUND",
+                    "Recurso \"não\" encontrado",
+                    new IllegalStateException("Estado inválido"));
+    final ByteBuffer buffer = ByteBuffer.allocate(16 * 1024);
+    final BuzzJson stream = BuzzJson.to(DISCARD);
+
+    @Benchmark
+    public int buffer() {
+        buffer.clear();
+        BuzzJson.write(buzz, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public void stream() throws IOException {
+        stream.write(buzz);
+    }
+
+    @Benchmark
+    public byte[] stringBuilder() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"code\":").append(buzz.code());
+        sb.append(",\"bee\":\"").append(escape(buzz.bee()));
+        sb.append("\",\"msg\":\"").append(escape(buzz.msg())).append("\",\"frames\":[");
+        StackTraceElement[] frames = buzz.getStackTrace();
+        for (int i = 0; i < frames.length; i++) {
+            sb.append(i == 0 ? "\"" : ",\"").append(escape(frames[i].toString())).append('"');
+        }
+        sb.append("],\"causes\":[{\"class\":\"").append(buzz.getCause().getClass().getName());
+        sb.append("\",\"msg\":\"").append(escape(buzz.getCause().getMessage())).append("\"}]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
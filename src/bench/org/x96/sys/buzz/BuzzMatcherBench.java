@@ -0,0 +1,96 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifying a batch of Buzz against 200 rules (code ranges, a third of them also naming a bee):
+ * a compiled {@link BuzzMatcher} against the if/else chain it replaces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzMatcherBench {
+
+    private static final int RULES = 200;
+    private static final int BATCH = 1024;
+
+    static final class Rule {
+        final int from;
+        final int to;
+        final String bee;
+        final int action;
+
+        Rule(int from, int to, String bee, int action) {
+            this.from = from;
+            this.to = to;
+            this.bee = bee;
+            this.action = action;
+        }
+
+        boolean matches(Buzz buzz) {
+            return buzz.code() >= from
+                    && buzz.code() <= to
+                    && (bee == null || bee.equals(buzz.bee()));
+        }
+    }
+
+    Rule[] chain;
+    BuzzMatcher<Integer> matcher;
+    Buzz[] batch;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        chain = new Rule[RULES];
+        BuzzMatcher.Builder<Integer> builder = BuzzMatcher.builder();
+        for (int r = 0; r < RULES; r++) {
+            int from = random.nextInt(4096);
+            int to = from + random.nextInt(32);
+            String bee = random.nextInt(3) == 0 ? "BEE_" + random.nextInt(20) : null;
+            chain[r] = new Rule(from, to, bee, r);
+            builder.rule(from, to, bee, r);
+        }
+        matcher = builder.build(-1);
+        batch = new Buzz[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            batch[i] = Buzz.stackless(random.nextInt(4096), "BEE_" + random.nextInt(25), "x");
+        }
+    }
+
+    @Benchmark
+    public void chain(Blackhole bh) {
+        for (Buzz buzz : batch) {
+            int action = -1;
+            for (Rule rule : chain) {
+                if (rule.matches(buzz)) {
+                    action = rule.action;
+                    break;
+                }
+            }
+            bh.consume(action);
+        }
+    }
+
+    @Benchmark
+    public void matcher(Blackhole bh) {
+        for (Buzz buzz : batch) {
+            bh.consume(matcher.match(buzz));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opening a catalog of {@code codes} templates in four locales and looking templates up: a heap
+ * map loaded up front, as the properties bundles were, against the memory-mapped {@link
+ * BuzzMessages} file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzMessagesBench {
+
+    private static final Locale[] LOCALES = {
+        Locale.ROOT, Locale.forLanguageTag("pt-BR"), Locale.GERMAN, Locale.JAPANESE
+    };
+
+    @Param({"1000", "100000"})
+    int codes;
+
+    private Path file;
+    private Map<String, String> heap;
+    private BuzzMessages mapped;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BuzzMessages.Builder builder = BuzzMessages.builder();
+        for (int code = 0; code < codes; code++) {
+            for (Locale locale : LOCALES) {
+                builder.add(code, locale, "BEE_" + code, locale + " message {} for " + code);
+            }
+        }
+        file = Files.createTempFile("buzz-messages", ".bin");
+        builder.write(file);
+        heap = load();
+        mapped = BuzzMessages.open(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /** Every template decoded into the heap, keyed by code and locale. */
+    private Map<String, String> load() {
+        Map<String, String> map = new HashMap<>();
+        for (int code = 0; code < codes; code++) {
+            for (Locale locale : LOCALES) {
+                map.put(code + "." + locale, locale + " message {} for " + code);
+            }
+        }
+        return map;
+    }
+
+    @Benchmark
+    public BuzzMessages openMapped() throws IOException {
+        return BuzzMessages.open(file);
+    }
+
+    @Benchmark
+    public Map<String, String> openHeap() {
+        return load();
+    }
+
+    @Benchmark
+    public String lookupHeap() {
+        int code = Math.floorMod(next++ * 31, codes);
+        return heap.get(code + "." + LOCALES[1]);
+    }
+
+    @Benchmark
+    public String lookupMapped() {
+        int code = Math.floorMod(next++ * 31, codes);
+        return mapped.template(code, LOCALES[1]);
+    }
+}
@@ -0,0 +1,102 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a batch of tokens where {@code failPercent} of them fail: throwing a stackless or
+ * cached Buzz and catching it per item, against returning a {@link BuzzResult}. The validator sits
+ * a few frames below the loop, as it would in a parser.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzResultBench {
+
+    private static final int BATCH = 1024;
+
+    @Param({"1", "10", "50"})
+    int failPercent;
+
+    int[] tokens;
+
+    @Setup
+    public void setup() {
+        tokens = new int[BATCH];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < BATCH; i++) {
+            tokens[i] = random.nextInt(100) < failPercent ? -1 : random.nextInt(1000);
+        }
+    }
+
+    @Benchmark
+    public long throwStackless() {
+        long sum = 0;
+        for (int token : tokens) {
+            try {
+                sum += checkThrowing(token, false, 4) + 1;
+            } catch (Buzz buzz) {
+                sum -= buzz.code();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long throwCached() {
+        long sum = 0;
+        for (int token : tokens) {
+            try {
+                sum += checkThrowing(token, true, 4) + 1;
+            } catch (Buzz buzz) {
+                sum -= buzz.code();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long result() {
+        long sum = 0;
+        for (int token : tokens) {
+            BuzzResult<Integer> r = checkResult(token, 4).map(n -> n + 1);
+            sum += r.isOk() ? r.orElseThrow() : -r.code();
+        }
+        return sum;
+    }
+
+    private static int checkThrowing(int token, boolean cached, int depth) {
+        if (depth > 0) {
+            return checkThrowing(token, cached, depth - 1);
+        }
+        if (token < 0) {
+            throw cached
+                    ? Buzz.cached(400, "BAD_TOKEN", "Token inválido")
+                    : Buzz.stackless(400, "BAD_TOKEN", "Token inválido");
+        }
+        return token;
+    }
+
+    private static BuzzResult<Integer> checkResult(int token, int depth) {
+        if (depth > 0) {
+            return checkResult(token, depth - 1);
+        }
+        return token < 0
+                ? BuzzResult.failure(400, "BAD_TOKEN", "Token inválido")
+                : BuzzResult.ok(token);
+    }
+}
@@ -0,0 +1,74 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full capture against a StackWalker top-N capture, sampled full capture and no stack, as the stack
+ * gets deeper.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzStackBench {
+
+    private static final BuzzStack.Capture TOP_4 = BuzzStack.Capture.top(4);
+    private static final BuzzStack.Capture TOP_16 = BuzzStack.Capture.top(16);
+    private static final BuzzStack.Capture FULL_1_IN_100 =
+            BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 100);
+    private static final BuzzStack.Capture FULL_100_PER_S =
+            BuzzStack.Capture.perSecond(BuzzStack.Capture.FULL, 100);
+
+    @Param({"16", "64", "256"})
+    int depth;
+
+    @Benchmark
+    public Buzz full() {
+        return dive(depth, BuzzStack.Capture.FULL);
+    }
+
+    @Benchmark
+    public Buzz top4() {
+        return dive(depth, TOP_4);
+    }
+
+    @Benchmark
+    public Buzz top16() {
+        return dive(depth, TOP_16);
+    }
+
+    @Benchmark
+    public Buzz fullOneIn100() {
+        return dive(depth, FULL_1_IN_100);
+    }
+
+    @Benchmark
+    public Buzz full100PerSecond() {
+        return dive(depth, FULL_100_PER_S);
+    }
+
+    @Benchmark
+    public Buzz none() {
+        return dive(depth, BuzzStack.Capture.NONE);
+    }
+
+    private static Buzz dive(int depth, BuzzStack.Capture capture) {
+        if (depth > 0) {
+            return dive(depth - 1, capture);
+        }
+        return Buzz.captured(capture, 404, "NOT_FOUND", "Recurso não encontrado", null);
+    }
+}
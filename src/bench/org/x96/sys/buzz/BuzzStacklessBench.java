@@ -0,0 +1,49 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzStacklessBench {
+
+    @Param({"0", "32", "128"})
+    int depth;
+
+    @Benchmark
+    public Buzz constructor() {
+        return dive(depth, false);
+    }
+
+    @Benchmark
+    public Buzz stackless() {
+        return dive(depth, true);
+    }
+
+    private static Buzz dive(int depth, boolean stackless) {
+        if (depth > 0) {
+            return dive(depth - 1, stackless);
+        }
+        try {
+            throw stackless
+                    ? Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado")
+                    : new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+        } catch (Buzz buzz) {
+            return buzz;
+        }
+    }
+}
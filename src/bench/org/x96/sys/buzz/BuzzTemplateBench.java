@@ -0,0 +1,63 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A concatenated message against a {@code {}} template, with the stack turned off for the code so
+ * only the message cost shows. {@code *Read} variants also render the message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzTemplateBench {
+
+    int code = 404;
+    String bee = "NOT_FOUND";
+    long id = 123_456_789L;
+    String shard = "shard-7";
+
+    @Setup
+    public void setup() {
+        BuzzStack.capture(code, BuzzStack.Capture.NONE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BuzzStack.reset();
+    }
+
+    @Benchmark
+    public Buzz concatenated() {
+        return new Buzz(code, bee, "user " + id + " not found in " + shard);
+    }
+
+    @Benchmark
+    public Buzz template() {
+        return Buzz.of(code, bee, "user {} not found in {}", id, shard);
+    }
+
+    @Benchmark
+    public String concatenatedRead() {
+        return concatenated().getMessage();
+    }
+
+    @Benchmark
+    public String templateRead() {
+        return template().getMessage();
+    }
+}
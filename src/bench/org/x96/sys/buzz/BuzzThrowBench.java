@@ -0,0 +1,70 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzThrowBench {
+
+    @Param({"0", "16", "64", "256"})
+    int depth;
+
+    @Benchmark
+    public Buzz three() {
+        return dive(depth, 0);
+    }
+
+    @Benchmark
+    public Buzz four() {
+        return dive(depth, 1);
+    }
+
+    @Benchmark
+    public Buzz stackless() {
+        return dive(depth, 2);
+    }
+
+    @Benchmark
+    public Buzz cached() {
+        return dive(depth, 3);
+    }
+
+    private static Buzz dive(int depth, int variant) {
+        if (depth > 0) {
+            return dive(depth - 1, variant);
+        }
+        try {
+            throw raise(variant);
+        } catch (Buzz buzz) {
+            return buzz;
+        }
+    }
+
+    private static Buzz raise(int variant) {
+        switch (variant) {
+            case 0:
+                return new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+            case 1:
+                return new Buzz(404, "NOT_FOUND", "Recurso não encontrado", null);
+            case 2:
+                return Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado");
+            default:
+                return Buzz.cached(404, "NOT_FOUND", "Recurso não encontrado");
+        }
+    }
+}
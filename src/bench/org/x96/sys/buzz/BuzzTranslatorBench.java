@@ -0,0 +1,81 @@
+package org.x96.sys.buzz;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Translating a mix of foreign exceptions at a boundary: the hand-written {@code instanceof} chain
+ * this replaces, against {@link BuzzTranslator}'s cached per-class lookup. Both build stackless
+ * Buzz, so the difference is the type dispatch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuzzTranslatorBench {
+
+    private BuzzTranslator translator;
+    private Throwable[] errors;
+    private int next;
+
+    @Setup
+    public void setup() {
+        translator =
+                BuzzTranslator.builder()
+                        .map(FileNotFoundException.class, 0x404, "FILE")
+                        .map(SocketTimeoutException.class, 0x504, "TIMEOUT")
+                        .map(TimeoutException.class, 0x504, "TIMEOUT")
+                        .map(IOException.class, 0x300, "IO")
+                        .map(IllegalArgumentException.class, 0x400, "BAD_REQUEST")
+                        .build(0x500, "INTERNAL");
+        errors =
+                new Throwable[] {
+                    new FileNotFoundException("a"),
+                    new SocketTimeoutException("b"),
+                    new NumberFormatException("c"),
+                    new UncheckedIOException(new IOException("d")),
+                    new IllegalStateException("e"),
+                    new TimeoutException("f"),
+                    new java.nio.file.NoSuchFileException("g"),
+                    new ArithmeticException("h")
+                };
+    }
+
+    @Benchmark
+    public Buzz instanceofChain() {
+        Throwable t = errors[next++ & 7];
+        Throwable link = t instanceof UncheckedIOException ? t.getCause() : t;
+        if (link instanceof FileNotFoundException) {
+            return Buzz.stackless(0x404, "FILE", link.getMessage(), t);
+        } else if (link instanceof SocketTimeoutException || link instanceof TimeoutException) {
+            return Buzz.stackless(0x504, "TIMEOUT", link.getMessage(), t);
+        } else if (link instanceof IOException) {
+            return Buzz.stackless(0x300, "IO", link.getMessage(), t);
+        } else if (link instanceof IllegalArgumentException) {
+            return Buzz.stackless(0x400, "BAD_REQUEST", link.getMessage(), t);
+        }
+        return Buzz.stackless(0x500, "INTERNAL", t.getMessage(), t);
+    }
+
+    @Benchmark
+    public Buzz translator() {
+        return translator.translate(errors[next++ & 7]);
+    }
+}
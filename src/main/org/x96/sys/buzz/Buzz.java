@@ -1,5 +1,10 @@
 package org.x96.sys.buzz;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Objects;
+
 public class Buzz extends RuntimeException {
 
     public static final String ANSI_RESET = "\u001B[0m";
@@ -10,16 +15,321 @@ public class Buzz extends RuntimeException {
         "🐞", "🕷️", "🪲", "🐜", "🦟", "🐝", "🦋", "🦖", "🦕", "🌵"
     };
 
+    private static final String HEAD = BUGS[8] + " [0x";
+    private static final String MID = "]" + System.lineSeparator() + BUGS[5] + " [";
+    private static final String TAIL = "]" + System.lineSeparator() + BUGS[9] + " > ";
+    private static final String HEX = "0123456789ABCDEF";
+
+    private static final BuzzCache CACHE = new BuzzCache();
+
+    private final int code;
+    private final String bee;
+
+    /** The message, or its template when {@link #args} is set. */
+    private final String msg;
+
+    /** Template arguments, kept as given until {@link #msg()} needs them. */
+    private final transient Object[] args;
+
+    /** {@link #msg} with {@link #args} substituted, on the first {@link #msg()} call. */
+    private volatile String text;
+
+    /** Assigned after {@code super(...)}, so {@code null} while Throwable's constructor runs. */
+    private final BuzzStack.Capture capture;
+
+    /** Rendered on the first {@link #getMessage()} call; most Buzz are caught without it. */
+    private volatile String message;
+
+    /** The {@link BuzzContext} bound where this Buzz was built; {@code null} for shared ones. */
+    private final BuzzContext context;
+
+    /** Interned on the first {@link #fingerprint()} call, or right away for a TOP capture. */
+    private transient volatile BuzzTrace.Trace trace;
+
     public Buzz(int code, String bee, String msg, Throwable cause) {
-        super(format(code, bee, msg), cause);
+        this(code, bee, msg, cause, true, BuzzStack.captureFor(code));
     }
 
     public Buzz(int code, String bee, String msg) {
         this(code, bee, msg, null);
     }
 
+    /**
+     * Full constructor for subclasses that need to opt out of suppression or stack capture; with
+     * {@code writableStackTrace} off, {@code fillInStackTrace()} is never run.
+     */
+    protected Buzz(
+            int code,
+            String bee,
+            String msg,
+            Throwable cause,
+            boolean enableSuppression,
+            boolean writableStackTrace) {
+        this(
+                code,
+                bee,
+                msg,
+                cause,
+                enableSuppression,
+                writableStackTrace ? BuzzStack.captureFor(code) : BuzzStack.Capture.NONE);
+    }
+
+    Buzz(
+            int code,
+            String bee,
+            String msg,
+            Throwable cause,
+            boolean enableSuppression,
+            BuzzStack.Capture capture) {
+        this(code, bee, msg, null, cause, enableSuppression, capture, BuzzContext.current(), true);
+    }
+
+    private Buzz(
+            int code,
+            String bee,
+            String msg,
+            Object[] args,
+            Throwable cause,
+            boolean enableSuppression,
+            BuzzStack.Capture capture,
+            BuzzContext context,
+            boolean local) {
+        super(null, cause, enableSuppression, capture.writable());
+        this.code = code;
+        this.bee = bee;
+        this.msg = msg;
+        this.args = args;
+        this.capture = capture;
+        this.context = context;
+        if (capture.kind() == BuzzStack.Kind.FULL || capture.kind() == BuzzStack.Kind.TOP) {
+            fillInStackTrace();
+        }
+        if (!local) {
+            return;
+        }
+        if (BuzzCounters.enabled) {
+            BuzzCounters.record(code);
+        }
+        if (BuzzRecorder.recording) {
+            BuzzEvent.emit(this, cause);
+        }
+    }
+
+    /** A Buzz without a stack trace, for rejects raised at high rate or used as control flow. */
+    public static Buzz stackless(int code, String bee, String msg) {
+        return new Buzz(code, bee, msg, null, true, false);
+    }
+
+    public static Buzz stackless(int code, String bee, String msg, Throwable cause) {
+        return new Buzz(code, bee, msg, cause, true, false);
+    }
+
+    /** A Buzz whose stack is recorded as {@code capture} says, whatever the configured default. */
+    public static Buzz captured(
+            BuzzStack.Capture capture, int code, String bee, String msg, Throwable cause) {
+        if (capture == null) {
+            throw new NullPointerException("capture");
+        }
+        return new Buzz(code, bee, msg, cause, true, capture.decide());
+    }
+
+    /**
+     * A shared, pre-formatted, stackless Buzz for constant errors; repeated calls with the same
+     * arguments return the same instance without allocating. Suppression is disabled and the cause
+     * is fixed to {@code null}, so the instance is safe to rethrow from any thread. It carries no
+     * {@link BuzzContext}.
+     */
+    public static Buzz cached(int code, String bee, String msg) {
+        return CACHE.get(code, bee, msg);
+    }
+
+    /** A Buzz for a code registered in {@link BuzzCatalog}, with its bee and default message. */
+    public static Buzz of(int code) {
+        BuzzCatalog.Entry entry = BuzzCatalog.lookup(code);
+        if (entry == null) {
+            throw new IllegalArgumentException(
+                    String.format("Buzz code 0x%X is not registered", code));
+        }
+        return new Buzz(code, entry.bee(), entry.template());
+    }
+
+    /**
+     * A Buzz whose message is {@code template} with each {@code {}} replaced by the next argument.
+     * The arguments are kept as given and substituted only when the message is first read, so a
+     * Buzz that is caught and dropped never builds its text. A trailing {@link Throwable} without a
+     * placeholder of its own becomes the cause.
+     */
+    public static Buzz of(int code, String bee, String template, Object... args) {
+        Throwable cause = null;
+        int n = args.length;
+        if (n > 0
+                && args[n - 1] instanceof Throwable
+                && (template == null || BuzzTemplate.placeholders(template) < n)) {
+            cause = (Throwable) args[n - 1];
+            args = Arrays.copyOf(args, --n);
+        }
+        return new Buzz(
+                code,
+                bee,
+                template,
+                n == 0 ? null : args,
+                cause,
+                true,
+                BuzzStack.captureFor(code),
+                BuzzContext.current(),
+                true);
+    }
+
+    static Buzz shared(int code, String bee, String msg) {
+        Buzz buzz =
+                new Buzz(code, bee, msg, null, null, false, BuzzStack.Capture.NONE, null, true);
+        buzz.getMessage();
+        return buzz;
+    }
+
+    /**
+     * A Buzz raised elsewhere and rebuilt here, as {@link BuzzCodec} does: it carries no local
+     * {@link BuzzContext} and is neither counted nor reported as a local construction.
+     */
+    static Buzz remote(int code, String bee, String msg, Throwable cause, boolean stack) {
+        BuzzStack.Capture capture = stack ? BuzzStack.Capture.PROVIDED : BuzzStack.Capture.NONE;
+        return new Buzz(code, bee, msg, null, cause, true, capture, null, false);
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public String bee() {
+        return bee;
+    }
+
+    public String msg() {
+        String t = text;
+        if (t == null) {
+            if (args == null) {
+                return msg;
+            }
+            t = BuzzTemplate.render(msg, args);
+            text = t;
+        }
+        return t;
+    }
+
+    /** The message as given, with its {@code {}} placeholders when built through a template. */
+    public String template() {
+        return msg;
+    }
+
+    /**
+     * How this instance recorded its stack trace; {@link BuzzStack.Kind#SAMPLED} when a sampling
+     * policy left it out.
+     */
+    public BuzzStack.Capture capture() {
+        return capture;
+    }
+
+    /** The request context bound when this Buzz was built, or {@code null}. */
+    public BuzzContext context() {
+        return context;
+    }
+
+    /**
+     * Stable hash of this Buzz's stack frames (see {@link BuzzTrace#fingerprint}). The first call
+     * interns the trace, so identical traces share their frames from then on.
+     */
+    public long fingerprint() {
+        return trace().fingerprint();
+    }
+
+    BuzzTrace.Trace trace() {
+        BuzzTrace.Trace t = trace;
+        if (t == null) {
+            t = BuzzTrace.intern(getStackTrace());
+            setStackTrace(t.frames);
+            trace = t;
+        }
+        return t;
+    }
+
+    /** Routes on the raw code without touching {@link #getMessage()}. */
+    public boolean is(int code) {
+        return this.code == code;
+    }
+
+    boolean same(int code, String bee, String msg) {
+        return this.code == code && Objects.equals(this.bee, bee) && Objects.equals(this.msg, msg);
+    }
+
+    /**
+     * Skipped while Throwable's constructor runs; the Buzz constructor then calls it again, so a
+     * subclass override that keeps the instance stackless still wins. Records the stack as the
+     * {@link BuzzStack.Capture} says: only the top frames for a TOP capture, all of them otherwise.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (capture == null) {
+            return this;
+        }
+        if (capture.kind() == BuzzStack.Kind.TOP) {
+            BuzzTrace.Trace t = BuzzTrace.intern(BuzzStack.walk(capture));
+            setStackTrace(t.frames);
+            trace = t;
+            return this;
+        }
+        trace = null;
+        return super.fillInStackTrace();
+    }
+
+    @Override
+    public String getMessage() {
+        String m = message;
+        if (m == null) {
+            m = format(code, bee, msg());
+            message = m;
+        }
+        return m;
+    }
+
+    /** Template arguments are dropped once rendered, as they need not be serializable. */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        msg();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Renders {@code "🦕 [0x<CODE>]%n🐝 [<bee>]%n🌵 > <msg>"}, exactly as the original {@code
+     * String.format} pattern did, without parsing a pattern or boxing the code.
+     */
     public static String format(int code, String bee, String msg) {
-        return String.format(
-                "%s [0x%X]%n%s [%s]%n%s > %s", BUGS[8], code, BUGS[5], bee, BUGS[9], msg);
+        String b = String.valueOf(bee);
+        String m = String.valueOf(msg);
+        int size = HEAD.length() + 8 + MID.length() + b.length() + TAIL.length() + m.length();
+        return format(code, b, m, new StringBuilder(size)).toString();
+    }
+
+    public static StringBuilder format(int code, String bee, String msg, StringBuilder out) {
+        out.append(HEAD);
+        for (int shift = hexShift(code); shift >= 0; shift -= 4) {
+            out.append(HEX.charAt((code >>> shift) & 0xF));
+        }
+        return out.append(MID).append(bee).append(TAIL).append(msg);
+    }
+
+    public static Appendable format(int code, String bee, String msg, Appendable out)
+            throws IOException {
+        out.append(HEAD);
+        for (int shift = hexShift(code); shift >= 0; shift -= 4) {
+            out.append(HEX.charAt((code >>> shift) & 0xF));
+        }
+        return out.append(MID)
+                .append(String.valueOf(bee))
+                .append(TAIL)
+                .append(String.valueOf(msg));
+    }
+
+    /** Shift of the most significant non-zero nibble, so {@code 0} still renders one digit. */
+    private static int hexShift(int code) {
+        return (31 - Integer.numberOfLeadingZeros(code | 1)) & ~3;
     }
 }
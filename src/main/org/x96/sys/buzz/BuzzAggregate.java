@@ -0,0 +1,136 @@
+package org.x96.sys.buzz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Collects the Buzz thrown by many parallel subtasks without locking: each code is counted in a
+ * {@link CodeCounters} table and only the first {@code exemplars} instances are kept, so memory
+ * stays bounded however many items fail. {@link #combine} renders one Buzz for the whole batch.
+ */
+public final class BuzzAggregate {
+
+    public static final int DEFAULT_EXEMPLARS = 8;
+    public static final int DEFAULT_CODES = 256;
+
+    /** Codes listed in the combined message before the rest are summarised. */
+    private static final int LISTED = 16;
+
+    private final CodeCounters counts;
+    private final AtomicReferenceArray<Buzz> exemplars;
+    private final AtomicInteger claimed = new AtomicInteger();
+
+    public BuzzAggregate() {
+        this(DEFAULT_EXEMPLARS, DEFAULT_CODES);
+    }
+
+    /**
+     * Keeps the first {@code exemplars} Buzz and counts up to {@code codes} distinct codes; later
+     * codes are counted together as overflow.
+     */
+    public BuzzAggregate(int exemplars, int codes) {
+        if (exemplars < 0) {
+            throw new IllegalArgumentException("exemplars must not be negative: " + exemplars);
+        }
+        if (codes < 1) {
+            throw new IllegalArgumentException("codes must be positive: " + codes);
+        }
+        this.counts = new CodeCounters(codes);
+        this.exemplars = new AtomicReferenceArray<>(exemplars);
+    }
+
+    /**
+     * Safe from any thread. Once the exemplars are taken, an add is one striped counter increment
+     * plus one read of the claim counter.
+     */
+    public void add(Buzz buzz) {
+        counts.increment(buzz.code());
+        int k = exemplars.length();
+        if (claimed.get() < k) {
+            int i = claimed.getAndIncrement();
+            if (i < k) {
+                exemplars.set(i, buzz);
+            }
+        }
+    }
+
+    public long count(int code) {
+        return counts.count(code);
+    }
+
+    public long total() {
+        return counts.snapshot(false).total();
+    }
+
+    public boolean isEmpty() {
+        return total() == 0;
+    }
+
+    public BuzzCounters.Snapshot snapshot() {
+        return counts.snapshot(false);
+    }
+
+    /** The kept exemplars, in the order their adds claimed a place. */
+    public List<Buzz> exemplars() {
+        int n = Math.min(claimed.get(), exemplars.length());
+        List<Buzz> kept = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Buzz buzz = exemplars.get(i);
+            if (buzz != null) {
+                kept.add(buzz);
+            }
+        }
+        return Collections.unmodifiableList(kept);
+    }
+
+    /**
+     * One Buzz for everything added so far, or {@code null} if nothing was. Its message lists the
+     * counts per code and the exemplars are attached as suppressed exceptions. Call it once the
+     * subtasks are done; adds racing with it may or may not be included.
+     */
+    public Buzz combine(int code, String bee) {
+        BuzzCounters.Snapshot snapshot = counts.snapshot(false);
+        long total = snapshot.total();
+        if (total == 0) {
+            return null;
+        }
+        Buzz combined = Buzz.of(code, bee, "{} failed: {}", total, summary(snapshot));
+        for (Buzz exemplar : exemplars()) {
+            combined.addSuppressed(exemplar);
+        }
+        return combined;
+    }
+
+    /** Throws {@link #combine} when anything was added. */
+    public void throwIfAny(int code, String bee) {
+        Buzz combined = combine(code, bee);
+        if (combined != null) {
+            throw combined;
+        }
+    }
+
+    private static String summary(BuzzCounters.Snapshot snapshot) {
+        int[] codes = snapshot.codes();
+        long[] counts = snapshot.counts();
+        StringBuilder out = new StringBuilder();
+        int listed = Math.min(codes.length, LISTED);
+        for (int i = 0; i < listed; i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append("0x").append(Integer.toHexString(codes[i]).toUpperCase());
+            out.append(" x").append(counts[i]);
+        }
+        long rest = snapshot.overflow();
+        for (int i = listed; i < codes.length; i++) {
+            rest += counts[i];
+        }
+        if (rest > 0) {
+            out.append(listed > 0 ? ", " : "").append(rest).append(" in other codes");
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,45 @@
+package org.x96.sys.buzz;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, direct-mapped table of shared Buzz instances behind {@link Buzz#cached}. Each (code,
+ * bee, msg) hashes to a single slot; a miss builds a fresh instance and replaces whatever lived
+ * there, so the table never grows and readers never lock.
+ */
+final class BuzzCache {
+
+    static final int SLOTS = 1024;
+
+    private static final int MASK = SLOTS - 1;
+
+    private final AtomicReferenceArray<Buzz> slots = new AtomicReferenceArray<>(SLOTS);
+
+    Buzz get(int code, String bee, String msg) {
+        int slot = spread(code, bee, msg) & MASK;
+        Buzz buzz = slots.get(slot);
+        if (buzz != null && buzz.same(code, bee, msg)) {
+            if (BuzzCounters.enabled) {
+                BuzzCounters.record(code);
+            }
+            return buzz;
+        }
+        buzz = Buzz.shared(code, bee, msg);
+        slots.set(slot, buzz);
+        return buzz;
+    }
+
+    void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    static int spread(int code, String bee, String msg) {
+        int h = code;
+        h = 31 * h + Objects.hashCode(bee);
+        h = 31 * h + Objects.hashCode(msg);
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,63 @@
+package org.x96.sys.buzz;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of known Buzz codes, each with its bee, default message template and severity. Codes
+ * are registered once, usually at startup; {@link #lookup} is a lock-free probe of a primitive
+ * int-keyed table and backs {@link Buzz#of(int)}.
+ */
+public final class BuzzCatalog {
+
+    public enum Severity {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR,
+        FATAL
+    }
+
+    public record Entry(int code, String bee, String template, Severity severity) {}
+
+    private static final ConcurrentHashMap<String, String> BEES = new ConcurrentHashMap<>();
+
+    private static volatile IntTable<Entry> entries = IntTable.empty();
+
+    private BuzzCatalog() {}
+
+    public static synchronized Entry register(
+            int code, String bee, String template, Severity severity) {
+        if (severity == null) {
+            throw new NullPointerException("severity");
+        }
+        if (entries.get(code) != null) {
+            throw new IllegalArgumentException(
+                    String.format("Buzz code 0x%X is already registered", code));
+        }
+        Entry entry = new Entry(code, intern(bee), template, severity);
+        entries = entries.with(code, entry);
+        return entry;
+    }
+
+    /** The entry for {@code code}, or {@code null} when it was never registered. */
+    public static Entry lookup(int code) {
+        return entries.get(code);
+    }
+
+    public static boolean contains(int code) {
+        return entries.get(code) != null;
+    }
+
+    public static int size() {
+        return entries.size();
+    }
+
+    /** Canonical instance of {@code bee}, so every Buzz with the same bee shares one String. */
+    public static String intern(String bee) {
+        if (bee == null) {
+            return null;
+        }
+        String canonical = BEES.putIfAbsent(bee, bee);
+        return canonical == null ? bee : canonical;
+    }
+}
@@ -0,0 +1,186 @@
+package org.x96.sys.buzz;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fault injection at named points in real code paths, for capacity and resilience testing. A point
+ * is declared once and {@link Point#hit() hit} where the failure should surface:
+ *
+ * <pre>{@code
+ * private static final BuzzChaos.Point SAVE = BuzzChaos.point("orders.save");
+ *
+ * void save(Order order) {
+ *     SAVE.hit();
+ *     ...
+ * }
+ *
+ * BuzzChaos.configure("orders.save", BuzzChaos.Rule.probability(0.001, 0x1F4, "CHAOS", "boom"));
+ * }</pre>
+ *
+ * Rules are swapped as a whole snapshot at runtime. A point without a rule costs one volatile read
+ * and a null check, so points can stay in production builds. Injected failures come from {@link
+ * Buzz#cached}: stackless and allocation-free, so injecting does not skew what is measured.
+ */
+public final class BuzzChaos {
+
+    /** When a point fails, and with which Buzz. */
+    public static final class Rule {
+
+        private final int code;
+        private final String bee;
+        private final String msg;
+
+        /** Chance out of 2^53 for probability rules; {@code 0} for every-nth rules. */
+        private final long threshold;
+
+        private final long every;
+        private final AtomicLong calls;
+
+        private Rule(int code, String bee, String msg, long threshold, long every) {
+            this.code = code;
+            this.bee = bee;
+            this.msg = msg;
+            this.threshold = threshold;
+            this.every = every;
+            this.calls = every == 0 ? null : new AtomicLong();
+        }
+
+        /** Each hit fails independently with {@code probability}, between 0 and 1. */
+        public static Rule probability(double probability, int code, String bee, String msg) {
+            if (!(probability >= 0 && probability <= 1)) {
+                throw new IllegalArgumentException("probability must be in [0, 1]: " + probability);
+            }
+            return new Rule(code, bee, msg, (long) (probability * (1L << 53)), 0);
+        }
+
+        /** Every {@code n}-th hit fails, counted across all threads. */
+        public static Rule everyNth(long n, int code, String bee, String msg) {
+            if (n < 1) {
+                throw new IllegalArgumentException("n must be positive: " + n);
+            }
+            return new Rule(code, bee, msg, 0, n);
+        }
+
+        Buzz fire() {
+            boolean fail =
+                    every == 0
+                            ? ThreadLocalRandom.current().nextLong() >>> 11 < threshold
+                            : calls.incrementAndGet() % every == 0;
+            return fail ? Buzz.cached(code, bee, msg) : null;
+        }
+
+        @Override
+        public String toString() {
+            String when =
+                    every == 0 ? "p=" + (double) threshold / (1L << 53) : "every " + every;
+            return when + " -> 0x" + Integer.toHexString(code).toUpperCase() + " [" + bee + "]";
+        }
+    }
+
+    /** A named place where failures can be injected. */
+    public static final class Point {
+
+        private final String name;
+        private final LongAdder injected = new LongAdder();
+        private volatile Rule rule;
+
+        private Point(String name, Rule rule) {
+            this.name = name;
+            this.rule = rule;
+        }
+
+        /** Throws the configured Buzz when the rule says this call fails. */
+        public void hit() {
+            Rule r = rule;
+            if (r != null) {
+                Buzz buzz = r.fire();
+                if (buzz != null) {
+                    injected.increment();
+                    throw buzz;
+                }
+            }
+        }
+
+        /** As {@link #hit()}, returning the Buzz instead of throwing; {@code null} to go on. */
+        public Buzz poll() {
+            Rule r = rule;
+            if (r == null) {
+                return null;
+            }
+            Buzz buzz = r.fire();
+            if (buzz != null) {
+                injected.increment();
+            }
+            return buzz;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** The rule in force, or {@code null} when the point is disabled. */
+        public Rule rule() {
+            return rule;
+        }
+
+        /** Failures injected here so far. */
+        public long injected() {
+            return injected.sum();
+        }
+
+        @Override
+        public String toString() {
+            return name + (rule == null ? " (off)" : " (" + rule + ")");
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Point> POINTS = new ConcurrentHashMap<>();
+
+    private static volatile Map<String, Rule> rules = Map.of();
+
+    private BuzzChaos() {}
+
+    /** The point called {@code name}, created on first use with whatever rule is configured. */
+    public static Point point(String name) {
+        Point point = POINTS.get(name);
+        return point != null ? point : create(name);
+    }
+
+    private static synchronized Point create(String name) {
+        return POINTS.computeIfAbsent(name, n -> new Point(n, rules.get(n)));
+    }
+
+    /** Replaces every rule at once; points missing from {@code config} are disabled. */
+    public static synchronized void configure(Map<String, Rule> config) {
+        rules = Map.copyOf(config);
+        for (Point point : POINTS.values()) {
+            point.rule = rules.get(point.name);
+        }
+    }
+
+    /** Sets or, with {@code null}, removes the rule of one point, keeping the others. */
+    public static synchronized void configure(String name, Rule rule) {
+        Map<String, Rule> next = new HashMap<>(rules);
+        if (rule == null) {
+            next.remove(name);
+        } else {
+            next.put(name, rule);
+        }
+        configure(next);
+    }
+
+    /** Disables every point. */
+    public static void clear() {
+        configure(Map.of());
+    }
+
+    /** The rules in force. */
+    public static Map<String, Rule> rules() {
+        return rules;
+    }
+}
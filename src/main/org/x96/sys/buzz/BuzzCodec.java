@@ -0,0 +1,194 @@
+package org.x96.sys.buzz;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary wire form of a Buzz and its cause chain, written straight into a {@link
+ * ByteBuffer}:
+ *
+ * <pre>
+ * buzz  := VERSION node
+ * node  := END | BUZZ varint(code) str(bee) str(msg) stack node
+ *              | FOREIGN str(class) str(message) stack node
+ * stack := varint(frames) { str(class) str(method) str(file) zigzag(line) }
+ * str   := varint(0) for null | varint(utf8 length + 1) utf8 bytes
+ * </pre>
+ *
+ * Causes that are not Buzz decode as {@link RemoteCause}, keeping their class name. The chain is
+ * cut after {@link #MAX_CAUSES} links, which also guards against cyclic causes.
+ */
+public final class BuzzCodec {
+
+    public static final int VERSION = 1;
+    public static final int MAX_CAUSES = 16;
+
+    private static final int END = 0;
+    private static final int BUZZ = 1;
+    private static final int FOREIGN = 2;
+
+    /** Stand-in for a non-Buzz cause decoded on the other side of the wire. */
+    public static final class RemoteCause extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String className;
+
+        RemoteCause(String className, String message, Throwable cause, boolean stack) {
+            super(message, cause, true, stack);
+            this.className = className;
+        }
+
+        public String className() {
+            return className;
+        }
+
+        @Override
+        public String toString() {
+            String message = getLocalizedMessage();
+            return message == null ? className : className + ": " + message;
+        }
+    }
+
+    private BuzzCodec() {}
+
+    /** Writes {@code buzz} and its causes without stack frames. */
+    public static void encode(Buzz buzz, ByteBuffer out) {
+        encode(buzz, out, 0);
+    }
+
+    /** Writes {@code buzz} and its causes, each with at most its top {@code maxFrames} frames. */
+    public static void encode(Buzz buzz, ByteBuffer out, int maxFrames) {
+        if (buzz == null) {
+            throw new NullPointerException("buzz");
+        }
+        out.put((byte) VERSION);
+        Throwable t = buzz;
+        for (int depth = 0; t != null && depth < MAX_CAUSES; depth++, t = t.getCause()) {
+            if (t instanceof Buzz) {
+                Buzz b = (Buzz) t;
+                out.put((byte) BUZZ);
+                putVarint(out, b.code());
+                putString(out, b.bee());
+                putString(out, b.msg());
+            } else {
+                out.put((byte) FOREIGN);
+                putString(
+                        out,
+                        t instanceof RemoteCause
+                                ? ((RemoteCause) t).className()
+                                : t.getClass().getName());
+                putString(out, t.getMessage());
+            }
+            putStack(out, maxFrames > 0 ? t.getStackTrace() : null, maxFrames);
+        }
+        out.put((byte) END);
+    }
+
+    public static Buzz decode(ByteBuffer in) {
+        int version = in.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported Buzz wire version " + version);
+        }
+        Throwable t = node(in, 0);
+        if (!(t instanceof Buzz)) {
+            throw new IllegalArgumentException("Buzz wire form does not start with a Buzz");
+        }
+        return (Buzz) t;
+    }
+
+    private static Throwable node(ByteBuffer in, int depth) {
+        int tag = in.get();
+        if (tag == END) {
+            return null;
+        }
+        if (depth >= MAX_CAUSES || (tag != BUZZ && tag != FOREIGN)) {
+            throw new IllegalArgumentException("malformed Buzz wire form");
+        }
+        int code = tag == BUZZ ? getVarint(in) : 0;
+        String first = getString(in);
+        String second = getString(in);
+        StackTraceElement[] frames = getStack(in);
+        Throwable cause = node(in, depth + 1);
+        Throwable t =
+                tag == BUZZ
+                        ? Buzz.remote(code, first, second, cause, frames != null)
+                        : new RemoteCause(first, second, cause, frames != null);
+        if (frames != null) {
+            t.setStackTrace(frames);
+        }
+        return t;
+    }
+
+    private static void putStack(ByteBuffer out, StackTraceElement[] frames, int maxFrames) {
+        int n = frames == null ? 0 : Math.min(frames.length, maxFrames);
+        putVarint(out, n);
+        for (int i = 0; i < n; i++) {
+            StackTraceElement frame = frames[i];
+            putString(out, frame.getClassName());
+            putString(out, frame.getMethodName());
+            putString(out, frame.getFileName());
+            int line = frame.getLineNumber();
+            putVarint(out, (line << 1) ^ (line >> 31));
+        }
+    }
+
+    private static StackTraceElement[] getStack(ByteBuffer in) {
+        int n = getVarint(in);
+        if (n == 0) {
+            return null;
+        }
+        if (n < 0 || n > in.remaining()) {
+            throw new IllegalArgumentException("malformed Buzz wire form");
+        }
+        StackTraceElement[] frames = new StackTraceElement[n];
+        for (int i = 0; i < n; i++) {
+            String className = getString(in);
+            String method = getString(in);
+            String file = getString(in);
+            int zigzag = getVarint(in);
+            frames[i] =
+                    new StackTraceElement(className, method, file, (zigzag >>> 1) ^ -(zigzag & 1));
+        }
+        return frames;
+    }
+
+    private static void putString(ByteBuffer out, String s) {
+        if (s == null) {
+            out.put((byte) 0);
+            return;
+        }
+        int length = Utf8.length(s);
+        putVarint(out, length + 1);
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        out.position(Utf8.put(out, out.position(), s));
+    }
+
+    private static String getString(ByteBuffer in) {
+        int n = getVarint(in);
+        return n == 0 ? null : Utf8.get(in, n - 1);
+    }
+
+    /** Unsigned LEB128 of the int's 32 bits, so negative codes take 5 bytes. */
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+}
@@ -0,0 +1,124 @@
+package org.x96.sys.buzz;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Immutable request context (request id, tenant, trace id) that every Buzz built inside {@link
+ * #run} or {@link #call} carries; sinks read it back through {@link Buzz#context()}. Bindings nest
+ * and are undone when the body returns, like a {@code ScopedValue} binding. Until the first binding
+ * in the process, building a Buzz costs one volatile read for this.
+ */
+public final class BuzzContext implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<BuzzContext> CURRENT = new ThreadLocal<>();
+
+    /** Set by the first binding; until then no Buzz looks at {@link #CURRENT}. */
+    private static volatile boolean bound;
+
+    private final String requestId;
+    private final String tenant;
+    private final String traceId;
+
+    private BuzzContext(String requestId, String tenant, String traceId) {
+        this.requestId = requestId;
+        this.tenant = tenant;
+        this.traceId = traceId;
+    }
+
+    /** Any of the parts may be {@code null}. */
+    public static BuzzContext of(String requestId, String tenant, String traceId) {
+        return new BuzzContext(requestId, tenant, traceId);
+    }
+
+    /** The context bound to this thread, or {@code null}. */
+    public static BuzzContext current() {
+        return bound ? CURRENT.get() : null;
+    }
+
+    public String requestId() {
+        return requestId;
+    }
+
+    public String tenant() {
+        return tenant;
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    /** Runs {@code body} with this context bound, restoring the previous binding afterwards. */
+    public void run(Runnable body) {
+        BuzzContext previous = bind(this);
+        try {
+            body.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public <T> T call(Supplier<? extends T> body) {
+        BuzzContext previous = bind(this);
+        try {
+            return body.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * {@code body} bound to this context wherever it runs, for handing work to an executor or a
+     * child virtual thread; bindings are not inherited by new threads.
+     */
+    public Runnable wrap(Runnable body) {
+        Objects.requireNonNull(body, "body");
+        return () -> run(body);
+    }
+
+    private static BuzzContext bind(BuzzContext context) {
+        if (!bound) {
+            bound = true;
+        }
+        BuzzContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    /** Removes the entry rather than storing null, so an unbound thread keeps no map residue. */
+    private static void restore(BuzzContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BuzzContext)) {
+            return false;
+        }
+        BuzzContext other = (BuzzContext) o;
+        return Objects.equals(requestId, other.requestId)
+                && Objects.equals(tenant, other.tenant)
+                && Objects.equals(traceId, other.traceId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requestId, tenant, traceId);
+    }
+
+    /** {@code request=<id> tenant=<tenant> trace=<id>}, as sinks print it. */
+    @Override
+    public String toString() {
+        return "request=" + requestId + " tenant=" + tenant + " trace=" + traceId;
+    }
+}
@@ -0,0 +1,69 @@
+package org.x96.sys.buzz;
+
+import java.util.Arrays;
+
+/**
+ * Optional per-code occurrence counters for every Buzz constructed or handed out by {@link
+ * Buzz#cached}. Off by default; while disabled the only cost on the hot path is one volatile read.
+ */
+public final class BuzzCounters {
+
+    /** Distinct codes tracked before further codes are summed into {@link Snapshot#overflow}. */
+    public static final int CAPACITY = 4096;
+
+    /** Codes ascending, {@code counts[i]} belonging to {@code codes[i]}. */
+    public record Snapshot(int[] codes, long[] counts, long overflow) {
+
+        public long count(int code) {
+            int i = Arrays.binarySearch(codes, code);
+            return i < 0 ? 0 : counts[i];
+        }
+
+        public long total() {
+            long total = overflow;
+            for (long count : counts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    private static final CodeCounters COUNTERS = new CodeCounters(CAPACITY);
+
+    static volatile boolean enabled;
+
+    private BuzzCounters() {}
+
+    public static void enable() {
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static long count(int code) {
+        return COUNTERS.count(code);
+    }
+
+    public static Snapshot snapshot() {
+        return COUNTERS.snapshot(false);
+    }
+
+    /** Reads and zeroes every counter in one pass, for scrapers that report deltas. */
+    public static Snapshot drain() {
+        return COUNTERS.snapshot(true);
+    }
+
+    public static void reset() {
+        COUNTERS.reset();
+    }
+
+    static void record(int code) {
+        COUNTERS.increment(code);
+    }
+}
@@ -0,0 +1,112 @@
+package org.x96.sys.buzz;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event committed by every Buzz constructor, so recordings show Buzz by code and
+ * bee rather than as generic exception events. Enable it as {@code org.x96.sys.buzz.Buzz} in a
+ * recording's settings. Buzz only reaches this class while some recording is running, so without
+ * one neither it nor JFR's event classes are loaded. {@link #throttle} caps the events per code
+ * and second, to keep it on in production.
+ */
+@Name("org.x96.sys.buzz.Buzz")
+@Label("Buzz")
+@Category({"x96", "Buzz"})
+@Description("A Buzz was constructed")
+@StackTrace(false)
+public final class BuzzEvent extends Event {
+
+    @Label("Code")
+    int code;
+
+    @Label("Bee")
+    String bee;
+
+    @Label("Message Length")
+    @Description("Length of the message, or of its template before substitution")
+    int messageLength;
+
+    @Label("Cause Type")
+    Class<?> causeType;
+
+    @Label("Stack Captured")
+    boolean stackCaptured;
+
+    /** Limits set for one code through {@link #throttle(int, int)}. */
+    private static volatile IntTable<BuzzStack.PerSecond> explicit = IntTable.empty();
+
+    /** Limits created on demand, one per code, from {@link #perCode}. */
+    private static volatile IntTable<BuzzStack.PerSecond> derived = IntTable.empty();
+
+    /** Events per second for each code without its own limit; {@code 0} is unthrottled. */
+    private static volatile int perCode;
+
+    BuzzEvent() {}
+
+    /** At most {@code perSecond} events per second for {@code code}. */
+    public static synchronized void throttle(int code, int perSecond) {
+        explicit = explicit.with(code, limit(perSecond));
+    }
+
+    /** At most {@code perSecond} events per second for each code without its own limit. */
+    public static synchronized void throttle(int perSecond) {
+        limit(perSecond);
+        perCode = perSecond;
+        derived = IntTable.empty();
+    }
+
+    public static synchronized void unthrottle() {
+        explicit = IntTable.empty();
+        derived = IntTable.empty();
+        perCode = 0;
+    }
+
+    static void emit(Buzz buzz, Throwable cause) {
+        BuzzEvent event = new BuzzEvent();
+        if (!event.isEnabled() || !allowed(buzz.code())) {
+            return;
+        }
+        event.code = buzz.code();
+        event.bee = buzz.bee();
+        String template = buzz.template();
+        event.messageLength = template == null ? 0 : template.length();
+        event.causeType = cause == null ? null : cause.getClass();
+        event.stackCaptured = buzz.capture().writable();
+        event.commit();
+    }
+
+    private static boolean allowed(int code) {
+        BuzzStack.PerSecond limit = explicit.get(code);
+        if (limit == null) {
+            if (perCode == 0) {
+                return true;
+            }
+            limit = derived.get(code);
+            if (limit == null) {
+                limit = derive(code);
+            }
+        }
+        return limit.take();
+    }
+
+    private static synchronized BuzzStack.PerSecond derive(int code) {
+        BuzzStack.PerSecond limit = derived.get(code);
+        if (limit == null) {
+            limit = new BuzzStack.PerSecond(Math.max(1, perCode));
+            derived = derived.with(code, limit);
+        }
+        return limit;
+    }
+
+    private static BuzzStack.PerSecond limit(int perSecond) {
+        if (perSecond < 1) {
+            throw new IllegalArgumentException("perSecond must be positive: " + perSecond);
+        }
+        return new BuzzStack.PerSecond(perSecond);
+    }
+}
@@ -0,0 +1,394 @@
+package org.x96.sys.buzz;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only binary journal of Buzz, written to rolling memory-mapped segment files in a
+ * directory. Every segment starts with a small per-code index holding the newest record of each
+ * code, and each record links back to the previous record of the same code, so {@link #read(Path,
+ * int, long)} follows one chain instead of scanning.
+ *
+ * <p>Appenders reserve space with one atomic add on the segment's write position, fill their
+ * record in place and commit it with a release store; only rolling to a new segment takes a lock.
+ * Records live in the OS page cache as soon as they are written, so a crashed JVM leaves every
+ * committed record readable.
+ *
+ * <pre>
+ * segment := header(64) index(SLOTS * 16) record*
+ * header  := MAGIC VERSION:int created:long SLOTS:int capacity:int
+ * slot    := (1 &lt;&lt; 32 | code):long newest:int count:int
+ * record  := length:int state:int code:int stackHash:int timestamp:long thread:long
+ *            previous:int bee:int msg:int threadName:int utf8... (padded to 8 bytes)
+ * state   := RESERVED | COMMITTED
+ * </pre>
+ *
+ * <p>A writer that dies between reserving its space and storing the length leaves a zeroed gap;
+ * readers step over it 8 bytes at a time until the next length and state pair.
+ */
+public final class BuzzJournal implements AutoCloseable {
+
+    public record Entry(
+            long timestamp, int code, String bee, String msg, String thread, int stackHash) {}
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+
+    static final int MAGIC = 0x314A5A42;
+    static final int VERSION = 1;
+    static final int SLOTS = 256;
+    static final int HEADER = 64;
+    static final int DATA = HEADER + SLOTS * 16;
+    static final int RECORD = 48;
+    static final int COMMITTED = 0xC0FFEE;
+    static final int RESERVED = 0xB0CED;
+
+    private static final VarHandle INT =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final String PREFIX = "buzz-";
+    private static final String SUFFIX = ".seg";
+
+    private static final class Segment {
+        final MappedByteBuffer buffer;
+        final AtomicLong position = new AtomicLong(DATA);
+        final int capacity;
+
+        Segment(MappedByteBuffer buffer, int capacity) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+    }
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final boolean hashStacks;
+    private final Object roll = new Object();
+
+    private volatile Segment current;
+    private long sequence;
+    private volatile boolean closed;
+
+    private BuzzJournal(Path dir, int segmentBytes, boolean hashStacks, long sequence)
+            throws IOException {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.hashStacks = hashStacks;
+        this.sequence = sequence;
+        this.current = create();
+    }
+
+    public static BuzzJournal open(Path dir) throws IOException {
+        return open(dir, DEFAULT_SEGMENT_BYTES, false);
+    }
+
+    /**
+     * Starts a fresh segment in {@code dir} after any left by earlier runs. With {@code
+     * hashStacks}, each record keeps the low 32 bits of the Buzz {@link Buzz#fingerprint()}.
+     */
+    public static BuzzJournal open(Path dir, int segmentBytes, boolean hashStacks)
+            throws IOException {
+        if (segmentBytes < DATA + 4096) {
+            throw new IllegalArgumentException("segment too small: " + segmentBytes);
+        }
+        Files.createDirectories(dir);
+        List<Path> segments = segments(dir);
+        long next = segments.isEmpty() ? 0 : number(segments.get(segments.size() - 1)) + 1;
+        return new BuzzJournal(dir, segmentBytes & ~7, hashStacks, next);
+    }
+
+    public void append(Buzz buzz) {
+        if (closed) {
+            throw new IllegalStateException("journal is closed");
+        }
+        String bee = buzz.bee();
+        String msg = buzz.msg();
+        String thread = Thread.currentThread().getName();
+        int beeBytes = bee == null ? 0 : Utf8.length(bee);
+        int msgBytes = msg == null ? 0 : Utf8.length(msg);
+        int threadBytes = Utf8.length(thread);
+        int length = (RECORD + beeBytes + msgBytes + threadBytes + 7) & ~7;
+        if (length > segmentBytes - DATA) {
+            throw new IllegalArgumentException("Buzz too large for a journal segment: " + length);
+        }
+        int stackHash = hashStacks ? (int) buzz.fingerprint() : 0;
+        long timestamp = System.currentTimeMillis();
+        long threadId = Thread.currentThread().getId();
+
+        Segment segment;
+        long at;
+        while (true) {
+            segment = current;
+            at = segment.position.getAndAdd(length);
+            if (at + length <= segment.capacity) {
+                break;
+            }
+            roll(segment);
+        }
+        int offset = (int) at;
+        MappedByteBuffer b = segment.buffer;
+        b.putInt(offset + 4, RESERVED);
+        INT.setRelease(b, offset, length);
+        b.putInt(offset + 8, buzz.code());
+        b.putInt(offset + 12, stackHash);
+        b.putLong(offset + 16, timestamp);
+        b.putLong(offset + 24, threadId);
+        b.putInt(offset + 36, bee == null ? 0 : beeBytes + 1);
+        b.putInt(offset + 40, msg == null ? 0 : msgBytes + 1);
+        b.putInt(offset + 44, threadBytes + 1);
+        int end = offset + RECORD;
+        if (bee != null) {
+            end = Utf8.put(b, end, bee);
+        }
+        if (msg != null) {
+            end = Utf8.put(b, end, msg);
+        }
+        Utf8.put(b, end, thread);
+        int slot = slot(b, buzz.code(), true);
+        if (slot < 0) {
+            INT.setRelease(b, offset + 4, COMMITTED);
+            return;
+        }
+        int previous;
+        do {
+            previous = (int) INT.getVolatile(b, slot + 8);
+            INT.setRelease(b, offset + 32, previous);
+        } while (!INT.compareAndSet(b, slot + 8, previous, offset));
+        INT.setRelease(b, offset + 4, COMMITTED);
+        INT.getAndAdd(b, slot + 12, 1);
+    }
+
+    /** Forces the open segment to storage and stops accepting appends. */
+    @Override
+    public void close() {
+        closed = true;
+        current.buffer.force();
+    }
+
+    /** Committed records of {@code code} at or after {@code sinceMillis}, newest segment first. */
+    public static List<Entry> read(Path dir, int code, long sinceMillis) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        List<Path> segments = segments(dir);
+        for (int s = segments.size() - 1; s >= 0; s--) {
+            MappedByteBuffer b = map(segments.get(s));
+            if (b == null) {
+                continue;
+            }
+            int slot = slot(b, code, false);
+            if (slot >= 0) {
+                int limit = b.getInt(20);
+                int steps = limit / RECORD;
+                for (int at = (int) INT.getVolatile(b, slot + 8);
+                        at >= DATA && at + RECORD <= limit && steps-- > 0;
+                        at = (int) INT.getAcquire(b, at + 32)) {
+                    if ((int) INT.getAcquire(b, at + 4) == COMMITTED
+                            && b.getInt(at + 8) == code
+                            && b.getLong(at + 16) >= sinceMillis) {
+                        entries.add(entry(b, at));
+                    }
+                }
+            } else if (slot == -2) {
+                scan(b, e -> {
+                    if (e.code() == code && e.timestamp() >= sinceMillis) {
+                        entries.add(e);
+                    }
+                });
+            }
+            if (b.getLong(8) < sinceMillis) {
+                break;
+            }
+        }
+        return entries;
+    }
+
+    /** Every committed record in {@code dir}, oldest segment first. */
+    public static void forEach(Path dir, Consumer<Entry> action) throws IOException {
+        for (Path segment : segments(dir)) {
+            MappedByteBuffer b = map(segment);
+            if (b != null) {
+                scan(b, action);
+            }
+        }
+    }
+
+    private static void scan(MappedByteBuffer b, Consumer<Entry> action) {
+        int limit = b.getInt(20);
+        int last = -1;
+        for (int at = DATA; at + RECORD <= limit; ) {
+            int length = (int) INT.getAcquire(b, at);
+            if (length < RECORD || at + length > limit) {
+                if (last < 0) {
+                    last = newest(b, limit);
+                }
+                at = resync(b, at + 8, Math.min(last, limit - RECORD), limit);
+                if (at < 0) {
+                    return;
+                }
+                continue;
+            }
+            if ((int) INT.getAcquire(b, at + 4) == COMMITTED) {
+                action.accept(entry(b, at));
+            }
+            at += length;
+        }
+    }
+
+    /**
+     * Offset of the first record header at or after {@code at}, up to {@code bound}, or -1. A
+     * header is a sane length followed by a {@link #RESERVED} or {@link #COMMITTED} state, both
+     * stored before the record's payload.
+     */
+    private static int resync(MappedByteBuffer b, int at, int bound, int limit) {
+        for (; at <= bound; at += 8) {
+            int length = (int) INT.getAcquire(b, at);
+            int state = (int) INT.getAcquire(b, at + 4);
+            if ((state == RESERVED || state == COMMITTED)
+                    && length >= RECORD
+                    && (length & 7) == 0
+                    && at + length <= limit) {
+                return at;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The furthest record any index slot points at, past which no committed record can lie; the
+     * whole segment when the index is full, as records are then left unlinked.
+     */
+    private static int newest(MappedByteBuffer b, int limit) {
+        int last = DATA;
+        boolean full = true;
+        for (int slot = HEADER; slot < DATA; slot += 16) {
+            if ((long) LONG.getVolatile(b, slot) == 0) {
+                full = false;
+            } else {
+                last = Math.max(last, (int) INT.getVolatile(b, slot + 8));
+            }
+        }
+        return full ? limit : last;
+    }
+
+    private static Entry entry(MappedByteBuffer b, int at) {
+        int beeLength = b.getInt(at + 36);
+        int msgLength = b.getInt(at + 40);
+        int threadLength = b.getInt(at + 44);
+        int p = at + RECORD;
+        String bee = beeLength == 0 ? null : Utf8.get(b, p, beeLength - 1);
+        p += Math.max(0, beeLength - 1);
+        String msg = msgLength == 0 ? null : Utf8.get(b, p, msgLength - 1);
+        p += Math.max(0, msgLength - 1);
+        String thread = threadLength == 0 ? null : Utf8.get(b, p, threadLength - 1);
+        return new Entry(b.getLong(at + 16), b.getInt(at + 8), bee, msg, thread, b.getInt(at + 12));
+    }
+
+    /**
+     * Offset of the index slot for {@code code}, claiming an empty one when {@code claim} is set;
+     * -1 when the code is absent, -2 when absent and the index is full (records were not linked).
+     */
+    private static int slot(MappedByteBuffer b, int code, boolean claim) {
+        long key = (1L << 32) | (code & 0xFFFFFFFFL);
+        for (int probe = 0, i = IntTable.mix(code) & (SLOTS - 1);
+                probe < SLOTS;
+                probe++, i = (i + 1) & (SLOTS - 1)) {
+            int slot = HEADER + i * 16;
+            long word = (long) LONG.getVolatile(b, slot);
+            if (word == 0) {
+                if (!claim) {
+                    return -1;
+                }
+                if (LONG.compareAndSet(b, slot, 0L, key)) {
+                    return slot;
+                }
+                word = (long) LONG.getVolatile(b, slot);
+            }
+            if (word == key) {
+                return slot;
+            }
+        }
+        return -2;
+    }
+
+    private void roll(Segment full) {
+        synchronized (roll) {
+            if (current != full) {
+                return;
+            }
+            try {
+                current = create();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        full.buffer.force();
+    }
+
+    private Segment create() throws IOException {
+        Path file = dir.resolve(String.format("%s%016d%s", PREFIX, sequence++, SUFFIX));
+        MappedByteBuffer b;
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            b = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        b.order(ByteOrder.LITTLE_ENDIAN);
+        b.putInt(4, VERSION);
+        b.putLong(8, System.currentTimeMillis());
+        b.putInt(16, SLOTS);
+        b.putInt(20, segmentBytes);
+        INT.setRelease(b, 0, MAGIC);
+        return new Segment(b, segmentBytes);
+    }
+
+    private static MappedByteBuffer map(Path file) throws IOException {
+        MappedByteBuffer b;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            b = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        b.order(ByteOrder.LITTLE_ENDIAN);
+        if (b.capacity() < DATA
+                || (int) INT.getAcquire(b, 0) != MAGIC
+                || b.getInt(4) != VERSION
+                || b.getInt(16) != SLOTS
+                || b.getInt(20) > b.capacity()) {
+            return null;
+        }
+        return b;
+    }
+
+    private static List<Path> segments(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(BuzzJournal::isSegment).sorted().toList();
+        }
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static long number(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,274 @@
+package org.x96.sys.buzz;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Renders a Buzz and its cause chain as JSON, escaping and UTF-8 encoding each string straight
+ * into a {@link ByteBuffer} or, through a reused buffer, an {@link OutputStream}. Keys always come
+ * in the same order and absent parts are left out, so equal Buzz render to equal bytes:
+ *
+ * <pre>
+ * {"code":404,"bee":"NOT_FOUND","msg":"...",
+ *  "context":{"request":"r-1","tenant":"acme","trace":"t-9"},
+ *  "frames":[{"class":"a.B","method":"m","file":"B.java","line":12}],
+ *  "causes":[{"class":"java.io.IOException","msg":"...","frames":[]}]}
+ * </pre>
+ *
+ * Buzz causes render with code, bee and msg instead of a class. The chain is cut after {@link
+ * BuzzCodec#MAX_CAUSES} links.
+ */
+public final class BuzzJson {
+
+    public static final int DEFAULT_BUFFER = 8 * 1024;
+
+    /** Longest output for one char: a {@code \\u00XX} escape. */
+    private static final int MAX_CHAR = 6;
+
+    private static final byte[] HEX = {
+        '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+    };
+
+    private final ByteBuffer buf;
+
+    /** Where a full {@link #buf} is emptied; {@code null} when writing into a caller's buffer. */
+    private final OutputStream out;
+
+    private BuzzJson(ByteBuffer buf, OutputStream out) {
+        this.buf = buf;
+        this.out = out;
+    }
+
+    /** A writer to {@code out}, one JSON object per line, buffered in {@code bufferSize} bytes. */
+    public static BuzzJson to(OutputStream out, int bufferSize) {
+        if (out == null) {
+            throw new NullPointerException("out");
+        }
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("bufferSize must be at least 64: " + bufferSize);
+        }
+        return new BuzzJson(ByteBuffer.allocate(bufferSize), out);
+    }
+
+    public static BuzzJson to(OutputStream out) {
+        return to(out, DEFAULT_BUFFER);
+    }
+
+    /**
+     * Writes {@code buzz} at the buffer's position with every stack frame.
+     *
+     * @throws BufferOverflowException if it does not fit; the position is then undefined.
+     */
+    public static void write(Buzz buzz, ByteBuffer out) {
+        write(buzz, out, Integer.MAX_VALUE);
+    }
+
+    /** As {@link #write(Buzz, ByteBuffer)}, keeping at most the top {@code maxFrames} frames. */
+    public static void write(Buzz buzz, ByteBuffer out, int maxFrames) {
+        try {
+            new BuzzJson(out, null).buzz(buzz, maxFrames);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Writes {@code buzz} and a newline; bytes may stay buffered until {@link #flush}. */
+    public void write(Buzz buzz) throws IOException {
+        write(buzz, Integer.MAX_VALUE);
+    }
+
+    public void write(Buzz buzz, int maxFrames) throws IOException {
+        buzz(buzz, maxFrames);
+        room(1);
+        buf.put((byte) '\n');
+    }
+
+    public void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void buzz(Buzz buzz, int maxFrames) throws IOException {
+        if (buzz == null) {
+            throw new NullPointerException("buzz");
+        }
+        room(1);
+        buf.put((byte) '{');
+        fields(buzz);
+        BuzzContext context = buzz.context();
+        if (context != null) {
+            ascii(",\"context\":{\"request\":");
+            string(context.requestId());
+            ascii(",\"tenant\":");
+            string(context.tenant());
+            ascii(",\"trace\":");
+            string(context.traceId());
+            room(1);
+            buf.put((byte) '}');
+        }
+        frames(buzz, maxFrames);
+        Throwable cause = buzz.getCause();
+        if (cause != null) {
+            ascii(",\"causes\":[");
+            for (int depth = 1; cause != null && depth < BuzzCodec.MAX_CAUSES; depth++) {
+                if (depth > 1) {
+                    ascii(",");
+                }
+                ascii("{");
+                fields(cause);
+                frames(cause, maxFrames);
+                ascii("}");
+                cause = cause.getCause();
+            }
+            ascii("]");
+        }
+        ascii("}");
+    }
+
+    private void fields(Throwable t) throws IOException {
+        if (t instanceof Buzz) {
+            Buzz b = (Buzz) t;
+            ascii("\"code\":");
+            number(b.code());
+            ascii(",\"bee\":");
+            string(b.bee());
+            ascii(",\"msg\":");
+            string(b.msg());
+        } else {
+            ascii("\"class\":");
+            string(
+                    t instanceof BuzzCodec.RemoteCause
+                            ? ((BuzzCodec.RemoteCause) t).className()
+                            : t.getClass().getName());
+            ascii(",\"msg\":");
+            string(t.getMessage());
+        }
+    }
+
+    private void frames(Throwable t, int maxFrames) throws IOException {
+        ascii(",\"frames\":[");
+        if (maxFrames > 0) {
+            StackTraceElement[] frames = t.getStackTrace();
+            for (int i = 0, n = Math.min(frames.length, maxFrames); i < n; i++) {
+                StackTraceElement f = frames[i];
+                ascii(i == 0 ? "{\"class\":" : ",{\"class\":");
+                string(f.getClassName());
+                ascii(",\"method\":");
+                string(f.getMethodName());
+                ascii(",\"file\":");
+                string(f.getFileName());
+                ascii(",\"line\":");
+                number(f.getLineNumber());
+                ascii("}");
+            }
+        }
+        ascii("]");
+    }
+
+    /** Syntax only: the literal is known to be ASCII and free of anything to escape. */
+    private void ascii(String s) throws IOException {
+        room(s.length());
+        for (int i = 0, n = s.length(); i < n; i++) {
+            buf.put((byte) s.charAt(i));
+        }
+    }
+
+    private void number(int value) throws IOException {
+        room(11);
+        long v = value;
+        if (v < 0) {
+            buf.put((byte) '-');
+            v = -v;
+        }
+        long scale = 1;
+        while (scale * 10 <= v) {
+            scale *= 10;
+        }
+        for (; scale > 0; scale /= 10) {
+            buf.put((byte) ('0' + (v / scale) % 10));
+        }
+    }
+
+    private void string(String s) throws IOException {
+        if (s == null) {
+            ascii("null");
+            return;
+        }
+        room(1);
+        buf.put((byte) '"');
+        for (int i = 0, len = s.length(); i < len; i++) {
+            room(MAX_CHAR);
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                buf.put((byte) '\\').put((byte) c);
+            } else if (c >= 0x20 && c < 0x80) {
+                buf.put((byte) c);
+            } else if (c < 0x20) {
+                escape(c);
+            } else if (c < 0x800) {
+                buf.put((byte) (0xC0 | (c >> 6)));
+                buf.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < len
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buf.put((byte) (0xF0 | (cp >> 18)));
+                buf.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                buf.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                buf.put((byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                buf.put((byte) '?');
+            } else {
+                buf.put((byte) (0xE0 | (c >> 12)));
+                buf.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buf.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        room(1);
+        buf.put((byte) '"');
+    }
+
+    private void escape(char c) {
+        buf.put((byte) '\\');
+        switch (c) {
+            case '\b':
+                buf.put((byte) 'b');
+                break;
+            case '\f':
+                buf.put((byte) 'f');
+                break;
+            case '\n':
+                buf.put((byte) 'n');
+                break;
+            case '\r':
+                buf.put((byte) 'r');
+                break;
+            case '\t':
+                buf.put((byte) 't');
+                break;
+            default:
+                buf.put((byte) 'u').put((byte) '0').put((byte) '0');
+                buf.put(HEX[c >> 4]).put(HEX[c & 0xF]);
+        }
+    }
+
+    /** Makes room for {@code n} bytes, draining to the stream when there is one. */
+    private void room(int n) throws IOException {
+        if (buf.remaining() >= n) {
+            return;
+        }
+        if (out == null) {
+            throw new BufferOverflowException();
+        }
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buf.flip();
+        out.write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
+        buf.clear();
+    }
+}
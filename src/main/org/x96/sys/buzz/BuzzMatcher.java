@@ -0,0 +1,183 @@
+package org.x96.sys.buzz;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An ordered rule set over code ranges and bee names, compiled once so that classifying a Buzz is a
+ * binary search over range boundaries, one hash probe for the bee and an AND of two rule bitsets.
+ * The first rule, in declaration order, matching both code and bee decides the result.
+ *
+ * <pre>{@code
+ * BuzzMatcher<Action> matcher =
+ *         BuzzMatcher.<Action>builder()
+ *                 .codes(0x500, 0x5FF, Action.RETRY)
+ *                 .bee("NOT_FOUND", Action.DROP)
+ *                 .build(Action.ESCALATE);
+ * }</pre>
+ */
+public final class BuzzMatcher<A> {
+
+    public static final class Builder<A> {
+
+        private final List<int[]> ranges = new ArrayList<>();
+        private final List<String> bees = new ArrayList<>();
+        private final List<A> actions = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder<A> code(int code, A action) {
+            return rule(code, code, null, action);
+        }
+
+        /** Codes from {@code from} to {@code to}, both inclusive. */
+        public Builder<A> codes(int from, int to, A action) {
+            return rule(from, to, null, action);
+        }
+
+        public Builder<A> bee(String bee, A action) {
+            return rule(Integer.MIN_VALUE, Integer.MAX_VALUE, Objects.requireNonNull(bee), action);
+        }
+
+        /** Codes from {@code from} to {@code to} whose bee is {@code bee}; {@code null} is any. */
+        public Builder<A> rule(int from, int to, String bee, A action) {
+            if (from > to) {
+                throw new IllegalArgumentException("empty range: " + from + " > " + to);
+            }
+            ranges.add(new int[] {from, to});
+            bees.add(bee);
+            actions.add(Objects.requireNonNull(action, "action"));
+            return this;
+        }
+
+        /** {@code otherwise} is returned when no rule matches. */
+        public BuzzMatcher<A> build(A otherwise) {
+            return new BuzzMatcher<>(this, Objects.requireNonNull(otherwise, "otherwise"));
+        }
+    }
+
+    /** First code of each interval; every code in an interval is covered by the same rules. */
+    private final int[] starts;
+
+    /** Rule bitsets, {@code words} longs per interval, then per bee slot. */
+    private final long[] codeBits;
+
+    private final long[] beeBits;
+
+    /** Bee names by hash slot; the row after the last slot is for bees no rule names. */
+    private final String[] bees;
+
+    private final int beeMask;
+    private final int words;
+    private final Object[] actions;
+    private final A otherwise;
+
+    private BuzzMatcher(Builder<A> builder, A otherwise) {
+        int n = builder.actions.size();
+        this.words = Math.max(1, (n + 63) >>> 6);
+        this.actions = builder.actions.toArray();
+        this.otherwise = otherwise;
+
+        int[] points = new int[2 * n + 1];
+        int p = 0;
+        points[p++] = Integer.MIN_VALUE;
+        for (int[] range : builder.ranges) {
+            points[p++] = range[0];
+            if (range[1] != Integer.MAX_VALUE) {
+                points[p++] = range[1] + 1;
+            }
+        }
+        Arrays.sort(points, 0, p);
+        int m = 0;
+        for (int i = 0; i < p; i++) {
+            if (m == 0 || points[i] != points[m - 1]) {
+                points[m++] = points[i];
+            }
+        }
+        this.starts = Arrays.copyOf(points, m);
+        this.codeBits = new long[m * words];
+        for (int r = 0; r < n; r++) {
+            int[] range = builder.ranges.get(r);
+            for (int i = interval(range[0]); i < m && starts[i] <= range[1]; i++) {
+                codeBits[i * words + (r >>> 6)] |= 1L << r;
+            }
+        }
+
+        int distinct = (int) builder.bees.stream().filter(Objects::nonNull).distinct().count();
+        int slots = Integer.highestOneBit(Math.max(1, distinct) * 2 - 1) << 1;
+        this.beeMask = slots - 1;
+        this.bees = new String[slots];
+        this.beeBits = new long[(slots + 1) * words];
+        for (int r = 0; r < n; r++) {
+            String bee = builder.bees.get(r);
+            if (bee != null) {
+                int slot = slot(bee);
+                if (bees[slot] == null) {
+                    bees[slot] = BuzzCatalog.intern(bee);
+                }
+            }
+        }
+        for (int r = 0; r < n; r++) {
+            String bee = builder.bees.get(r);
+            long bit = 1L << r;
+            int word = r >>> 6;
+            if (bee == null) {
+                for (int row = 0; row <= slots; row++) {
+                    beeBits[row * words + word] |= bit;
+                }
+            } else {
+                beeBits[slot(bee) * words + word] |= bit;
+            }
+        }
+    }
+
+    public static <A> Builder<A> builder() {
+        return new Builder<>();
+    }
+
+    public A match(Buzz buzz) {
+        return match(buzz.code(), buzz.bee());
+    }
+
+    @SuppressWarnings("unchecked")
+    public A match(int code, String bee) {
+        int c = interval(code) * words;
+        int b = row(bee) * words;
+        for (int w = 0; w < words; w++) {
+            long bits = codeBits[c + w] & beeBits[b + w];
+            if (bits != 0) {
+                return (A) actions[(w << 6) + Long.numberOfTrailingZeros(bits)];
+            }
+        }
+        return otherwise;
+    }
+
+    public int rules() {
+        return actions.length;
+    }
+
+    private int interval(int code) {
+        int i = Arrays.binarySearch(starts, code);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /** Slot where {@code bee} is or would be stored; linear probing over the name table. */
+    private int slot(String bee) {
+        for (int i = IntTable.mix(bee.hashCode()) & beeMask; ; i = (i + 1) & beeMask) {
+            String name = bees[i];
+            if (name == null || name == bee || name.equals(bee)) {
+                return i;
+            }
+        }
+    }
+
+    private int row(String bee) {
+        if (bee == null) {
+            return beeMask + 1;
+        }
+        int i = slot(bee);
+        return bees[i] == null ? beeMask + 1 : i;
+    }
+}
@@ -0,0 +1,315 @@
+package org.x96.sys.buzz;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Localized Buzz message templates in a compact binary file that is memory-mapped, not loaded.
+ * Opening a catalog checks its header and reads the locale tags; {@link #template(int, Locale)}
+ * then binary-searches the entry table in the mapped file, and decodes only the strings of the
+ * entry it finds. Decoded entries are kept in a small direct-mapped cache, so the heap holds the
+ * messages in use and never the whole catalog.
+ *
+ * <pre>
+ * file   := header(16) locale* entry* string*
+ * header := MAGIC VERSION:int locales:int entries:int
+ * locale := tag:int
+ * entry  := code:int locale:int bee:int template:int  (sorted by code, then locale)
+ * string := length:int utf8...
+ * </pre>
+ *
+ * Strings are referenced by their offset in the file, and identical strings are written once.
+ * Integers are little-endian. A lookup tries the locale's full tag, then its language, then the
+ * root locale.
+ */
+public final class BuzzMessages {
+
+    static final int MAGIC = 0x434D5A42;
+    static final int VERSION = 1;
+    static final int HEADER = 16;
+    static final int ENTRY = 16;
+
+    static final int SLOTS = 1024;
+    private static final int MASK = SLOTS - 1;
+
+    private static final int[] NO_LOCALES = {};
+
+    /** A decoded entry, cached by its index in the entry table. */
+    private static final class Message {
+        final int entry;
+        final String bee;
+        final String template;
+
+        Message(int entry, String bee, String template) {
+            this.entry = entry;
+            this.bee = bee;
+            this.template = template;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<Long, String[]> entries = new HashMap<>();
+        private final Map<String, Integer> locales = new LinkedHashMap<>();
+
+        private Builder() {}
+
+        /** The template of {@code code} in {@code locale}; {@link Locale#ROOT} is the fallback. */
+        public Builder add(int code, Locale locale, String bee, String template) {
+            if (locale == null) {
+                throw new NullPointerException("locale");
+            }
+            if (template == null) {
+                throw new NullPointerException("template");
+            }
+            String tag = tag(locale);
+            Integer index = locales.computeIfAbsent(tag, t -> locales.size());
+            if (entries.putIfAbsent(key(code, index), new String[] {bee, template}) != null) {
+                throw new IllegalArgumentException(
+                        String.format("Buzz code 0x%X already has a %s template", code, tag));
+            }
+            return this;
+        }
+
+        /** The catalog in its file form, in a heap buffer. */
+        public ByteBuffer toBuffer() {
+            Long[] keys = entries.keySet().toArray(new Long[0]);
+            Arrays.sort(keys);
+            Map<String, Integer> strings = new HashMap<>();
+            List<String> pool = new ArrayList<>();
+            int size = HEADER + 4 * locales.size() + ENTRY * keys.length;
+            for (String tag : locales.keySet()) {
+                size += intern(tag, size, strings, pool);
+            }
+            for (Long key : keys) {
+                for (String s : entries.get(key)) {
+                    if (s != null) {
+                        size += intern(s, size, strings, pool);
+                    }
+                }
+            }
+            ByteBuffer out = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(MAGIC).putInt(VERSION).putInt(locales.size()).putInt(keys.length);
+            for (String tag : locales.keySet()) {
+                out.putInt(strings.get(tag));
+            }
+            for (Long key : keys) {
+                String[] e = entries.get(key);
+                out.putInt((int) (key >> 32)).putInt(key.intValue());
+                out.putInt(e[0] == null ? -1 : strings.get(e[0])).putInt(strings.get(e[1]));
+            }
+            for (String s : pool) {
+                out.putInt(Utf8.length(s));
+                out.position(Utf8.put(out, out.position(), s));
+            }
+            return out.flip();
+        }
+
+        /** Writes the catalog to {@code file}, replacing it. */
+        public void write(Path file) throws IOException {
+            ByteBuffer b = toBuffer();
+            try (FileChannel channel =
+                    FileChannel.open(
+                            file,
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.WRITE,
+                            StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (b.hasRemaining()) {
+                    channel.write(b);
+                }
+            }
+        }
+
+        private static long key(int code, int locale) {
+            return (long) code << 32 | locale;
+        }
+
+        /** Assigns {@code s} the next offset unless already placed; returns the bytes it adds. */
+        private static int intern(
+                String s, int offset, Map<String, Integer> strings, List<String> pool) {
+            if (strings.putIfAbsent(s, offset) != null) {
+                return 0;
+            }
+            pool.add(s);
+            return 4 + Utf8.length(s);
+        }
+    }
+
+    private final ByteBuffer buffer;
+    private final int entries;
+    private final int entriesAt;
+    private final Map<String, Integer> locales;
+    private final Map<Locale, int[]> chains = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Message> cache = new AtomicReferenceArray<>(SLOTS);
+
+    BuzzMessages(ByteBuffer buffer) {
+        ByteBuffer b = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        if (b.capacity() < HEADER || b.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("not a Buzz message catalog");
+        }
+        if (b.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(
+                    "unsupported Buzz message catalog version " + b.getInt(4));
+        }
+        int count = b.getInt(8);
+        int n = b.getInt(12);
+        if (count < 0 || n < 0 || HEADER + 4L * count + (long) ENTRY * n > b.capacity()) {
+            throw new IllegalArgumentException("truncated Buzz message catalog");
+        }
+        Map<String, Integer> tags = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            tags.put(string(b, b.getInt(HEADER + 4 * i)), i);
+        }
+        this.buffer = b;
+        this.entries = n;
+        this.entriesAt = HEADER + 4 * count;
+        this.locales = Map.copyOf(tags);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Maps {@code file} read-only; the mapping outlives the channel, which is closed here. */
+    public static BuzzMessages open(Path file) throws IOException {
+        ByteBuffer b;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Buzz message catalog over 2 GiB: " + file);
+            }
+            b = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new BuzzMessages(b);
+    }
+
+    /** Number of (code, locale) templates in the catalog. */
+    public int size() {
+        return entries;
+    }
+
+    /** The template of {@code code} closest to {@code locale}, or {@code null}. */
+    public String template(int code, Locale locale) {
+        Message m = find(code, locale);
+        return m == null ? null : m.template;
+    }
+
+    /** The bee stored with {@code code} for {@code locale}, or {@code null}. */
+    public String bee(int code, Locale locale) {
+        Message m = find(code, locale);
+        return m == null ? null : m.bee;
+    }
+
+    /**
+     * A Buzz with {@code code}'s bee and its template in {@code locale}, rendered against {@code
+     * args} only when the message is read, as {@link Buzz#of(int, String, String, Object...)}
+     * does.
+     */
+    public Buzz of(int code, Locale locale, Object... args) {
+        Message m = find(code, locale);
+        if (m == null) {
+            throw new IllegalArgumentException(
+                    String.format("Buzz code 0x%X has no template for %s", code, locale));
+        }
+        return Buzz.of(code, m.bee, m.template, args);
+    }
+
+    private Message find(int code, Locale locale) {
+        int first = first(code);
+        if (first < 0) {
+            return null;
+        }
+        for (int wanted : chain(locale)) {
+            for (int i = first; i < entries && code(i) == code; i++) {
+                if (buffer.getInt(entriesAt + ENTRY * i + 4) == wanted) {
+                    return message(i);
+                }
+            }
+        }
+        return null;
+    }
+
+    /** Index of the first entry for {@code code}, or {@code -1}. */
+    private int first(int code) {
+        int lo = 0;
+        int hi = entries;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (code(mid) < code) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo < entries && code(lo) == code ? lo : -1;
+    }
+
+    private int code(int entry) {
+        return buffer.getInt(entriesAt + ENTRY * entry);
+    }
+
+    private Message message(int entry) {
+        int slot = (entry ^ (entry >>> 10)) & MASK;
+        Message m = cache.get(slot);
+        if (m != null && m.entry == entry) {
+            return m;
+        }
+        int at = entriesAt + ENTRY * entry;
+        int bee = buffer.getInt(at + 8);
+        m =
+                new Message(
+                        entry,
+                        bee < 0 ? null : BuzzCatalog.intern(string(buffer, bee)),
+                        string(buffer, buffer.getInt(at + 12)));
+        cache.set(slot, m);
+        return m;
+    }
+
+    /** Locale indices to try for {@code locale}, most specific first. */
+    private int[] chain(Locale locale) {
+        if (locale == null) {
+            locale = Locale.ROOT;
+        }
+        int[] chain = chains.get(locale);
+        if (chain == null) {
+            int[] found = new int[3];
+            int n = 0;
+            for (String tag : new String[] {tag(locale), locale.getLanguage(), ""}) {
+                Integer index = locales.get(tag);
+                if (index != null && (n == 0 || found[n - 1] != index)) {
+                    found[n++] = index;
+                }
+            }
+            chain = n == 0 ? NO_LOCALES : Arrays.copyOf(found, n);
+            chains.putIfAbsent(locale, chain);
+        }
+        return chain;
+    }
+
+    private static String tag(Locale locale) {
+        return locale.equals(Locale.ROOT) ? "" : locale.toLanguageTag();
+    }
+
+    private static String string(ByteBuffer b, int offset) {
+        if (offset < 0 || offset > b.capacity() - 4) {
+            throw new IllegalArgumentException("malformed Buzz message catalog");
+        }
+        int length = b.getInt(offset);
+        if (length < 0 || length > b.capacity() - offset - 4) {
+            throw new IllegalArgumentException("malformed Buzz message catalog");
+        }
+        return Utf8.get(b, offset + 4, length);
+    }
+}
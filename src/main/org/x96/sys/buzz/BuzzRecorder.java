@@ -0,0 +1,56 @@
+package org.x96.sys.buzz;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Tells Buzz whether any Flight Recorder recording is running, so {@link BuzzEvent} and the JFR
+ * event machinery are loaded only once one is. Until then building a Buzz reads one volatile
+ * flag. The listener is registered without starting the recorder, and not at all on a runtime
+ * image without the {@code jdk.jfr} module.
+ */
+final class BuzzRecorder {
+
+    /** {@code true} while at least one recording is running. */
+    static volatile boolean recording;
+
+    static {
+        if (ModuleLayer.boot().findModule("jdk.jfr").isPresent()) {
+            try {
+                Listener.register();
+            } catch (LinkageError | SecurityException e) {
+                recording = false;
+            }
+        }
+    }
+
+    private BuzzRecorder() {}
+
+    private static final class Listener implements FlightRecorderListener {
+
+        static void register() {
+            FlightRecorder.addListener(new Listener());
+            if (FlightRecorder.isInitialized()) {
+                update();
+            }
+        }
+
+        @Override
+        public void recordingStateChanged(Recording changed) {
+            update();
+        }
+
+        private static void update() {
+            boolean running = false;
+            for (Recording r : FlightRecorder.getFlightRecorder().getRecordings()) {
+                if (r.getState() == RecordingState.RUNNING) {
+                    running = true;
+                    break;
+                }
+            }
+            recording = running;
+        }
+    }
+}
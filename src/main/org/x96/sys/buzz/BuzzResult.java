@@ -0,0 +1,159 @@
+package org.x96.sys.buzz;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A value or a Buzz, for loops where failure is expected and throwing would cost an unwind per
+ * item. A failure carries the same code, bee and message as the Buzz it stands for, and {@link
+ * #orElseThrow()} turns it back into that Buzz. {@link #failure(int, String, String)} returns a
+ * shared instance per (code, bee, msg), backed by {@link Buzz#cached}, so a failing item allocates
+ * nothing.
+ */
+public final class BuzzResult<T> {
+
+    static final int SLOTS = 1024;
+
+    private static final int MASK = SLOTS - 1;
+
+    private static final AtomicReferenceArray<BuzzResult<?>> FAILURES =
+            new AtomicReferenceArray<>(SLOTS);
+
+    private final T value;
+
+    /** {@code null} exactly when this result is a success. */
+    private final Buzz buzz;
+
+    private BuzzResult(T value, Buzz buzz) {
+        this.value = value;
+        this.buzz = buzz;
+    }
+
+    public static <T> BuzzResult<T> ok(T value) {
+        return new BuzzResult<>(value, null);
+    }
+
+    /** The shared failure for (code, bee, msg); its Buzz is {@link Buzz#cached}, so stackless. */
+    @SuppressWarnings("unchecked")
+    public static <T> BuzzResult<T> failure(int code, String bee, String msg) {
+        int slot = BuzzCache.spread(code, bee, msg) & MASK;
+        BuzzResult<?> result = FAILURES.get(slot);
+        if (result != null && result.buzz.same(code, bee, msg)) {
+            if (BuzzCounters.enabled) {
+                BuzzCounters.record(code);
+            }
+            return (BuzzResult<T>) result;
+        }
+        result = new BuzzResult<>(null, Buzz.cached(code, bee, msg));
+        FAILURES.set(slot, result);
+        return (BuzzResult<T>) result;
+    }
+
+    /** A failure that rethrows {@code buzz} itself, stack and cause included. */
+    public static <T> BuzzResult<T> failure(Buzz buzz) {
+        return new BuzzResult<>(null, Objects.requireNonNull(buzz, "buzz"));
+    }
+
+    /** Runs {@code body}, turning a thrown Buzz into a failure; other exceptions propagate. */
+    public static <T> BuzzResult<T> catching(Supplier<? extends T> body) {
+        try {
+            return ok(body.get());
+        } catch (Buzz buzz) {
+            return failure(buzz);
+        }
+    }
+
+    public boolean isOk() {
+        return buzz == null;
+    }
+
+    public boolean isFailure() {
+        return buzz != null;
+    }
+
+    public int code() {
+        return failed().code();
+    }
+
+    public String bee() {
+        return failed().bee();
+    }
+
+    public String msg() {
+        return failed().msg();
+    }
+
+    /** Routes on the raw code; always {@code false} for a success. */
+    public boolean is(int code) {
+        return buzz != null && buzz.is(code);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> BuzzResult<U> map(Function<? super T, ? extends U> f) {
+        return buzz == null ? ok(f.apply(value)) : (BuzzResult<U>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <U> BuzzResult<U> flatMap(Function<? super T, BuzzResult<U>> f) {
+        return buzz == null ? Objects.requireNonNull(f.apply(value)) : (BuzzResult<U>) this;
+    }
+
+    public T orElse(T other) {
+        return buzz == null ? value : other;
+    }
+
+    /** The value, or the failure's Buzz thrown. */
+    public T orElseThrow() {
+        if (buzz != null) {
+            throw buzz;
+        }
+        return value;
+    }
+
+    /** The failure's Buzz, without throwing it. */
+    public Buzz buzz() {
+        return failed();
+    }
+
+    private Buzz failed() {
+        if (buzz == null) {
+            throw new IllegalStateException("BuzzResult is ok: " + value);
+        }
+        return buzz;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BuzzResult)) {
+            return false;
+        }
+        BuzzResult<?> other = (BuzzResult<?>) o;
+        if (buzz == null || other.buzz == null) {
+            return buzz == other.buzz && Objects.equals(value, other.value);
+        }
+        return buzz.code() == other.buzz.code()
+                && Objects.equals(buzz.bee(), other.buzz.bee())
+                && Objects.equals(buzz.msg(), other.buzz.msg());
+    }
+
+    @Override
+    public int hashCode() {
+        return buzz == null
+                ? Objects.hashCode(value)
+                : BuzzCache.spread(buzz.code(), buzz.bee(), buzz.msg());
+    }
+
+    @Override
+    public String toString() {
+        if (buzz == null) {
+            return "Ok[" + value + "]";
+        }
+        String code = Integer.toHexString(buzz.code()).toUpperCase();
+        return "Failure[0x" + code + " " + buzz.bee() + ": " + buzz.msg() + "]";
+    }
+}
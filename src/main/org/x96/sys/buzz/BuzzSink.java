@@ -0,0 +1,284 @@
+package org.x96.sys.buzz;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous destination for Buzz. Request threads {@link #publish} into a bounded lock-free
+ * ring (one CAS on the tail when uncontended); a single background drainer renders the queued Buzz
+ * as text lines and appends them to a file through a {@link FileChannel} in batches. A stack trace
+ * is written in full the first time its fingerprint shows up; repeats get a one-line reference.
+ */
+public final class BuzzSink implements AutoCloseable {
+
+    /** What {@link #publish} does when the ring is full. */
+    public enum Overflow {
+        /** Return {@code false} and forget the Buzz. */
+        DROP,
+        /** Like {@link #DROP}, but add the Buzz to {@link #dropped()}. */
+        COUNT_AND_DROP,
+        /** Wait until the drainer frees a slot. */
+        BLOCK
+    }
+
+    private static final int BATCH = 256;
+    private static final int PRINTED = 1024;
+    private static final long IDLE_NANOS = 1_000_000L;
+
+    /** Set on {@link #tail} once no more Buzz may be queued, so a late publisher's CAS fails. */
+    private static final long SEALED = Long.MIN_VALUE;
+
+    private final FileChannel channel;
+    private final Overflow overflow;
+    private final AtomicReferenceArray<Buzz> slots;
+    private final AtomicLongArray sequence;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong unrendered = new AtomicLong();
+    private final Thread drainer;
+
+    private long head;
+    private boolean closed;
+    private volatile IOException failure;
+
+    private final StringBuilder line = new StringBuilder(256);
+    private final CharsetEncoder encoder =
+            StandardCharsets.UTF_8
+                    .newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer out = ByteBuffer.allocateDirect(64 * 1024);
+    private final long[] printed = new long[PRINTED];
+
+    private BuzzSink(FileChannel channel, int capacity, Overflow overflow) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.channel = channel;
+        this.overflow = overflow;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequence = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequence.set(i, i);
+        }
+        this.drainer = new Thread(this::drain, "buzz-sink");
+        this.drainer.setDaemon(true);
+    }
+
+    /** Appends to {@code file}, creating it if needed; capacity rounds up to a power of two. */
+    public static BuzzSink open(Path file, int capacity, Overflow overflow) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (overflow == null) {
+            throw new NullPointerException("overflow");
+        }
+        FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND);
+        BuzzSink sink = new BuzzSink(channel, capacity, overflow);
+        sink.drainer.start();
+        return sink;
+    }
+
+    /** Queues {@code buzz} for writing; {@code false} when it was dropped or the sink is closed. */
+    public boolean publish(Buzz buzz) {
+        if (buzz == null) {
+            throw new NullPointerException("buzz");
+        }
+        while (true) {
+            long pos = tail.get();
+            if (pos < 0) {
+                return false;
+            }
+            long lag = sequence.get((int) pos & mask) - pos;
+            if (lag == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    int slot = (int) pos & mask;
+                    slots.lazySet(slot, buzz);
+                    sequence.set(slot, pos + 1);
+                    return true;
+                }
+            } else if (lag < 0) {
+                if (overflow == Overflow.BLOCK) {
+                    LockSupport.parkNanos(IDLE_NANOS / 10);
+                    continue;
+                }
+                if (overflow == Overflow.COUNT_AND_DROP) {
+                    dropped.increment();
+                }
+                return false;
+            }
+        }
+    }
+
+    /** Buzz rejected by a full ring under {@link Overflow#COUNT_AND_DROP}. */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long written() {
+        return written.get();
+    }
+
+    /**
+     * Buzz whose own methods threw while being rendered; each was written as a one-line note
+     * instead, and is also counted in {@link #written()}.
+     */
+    public long unrendered() {
+        return unrendered.get();
+    }
+
+    /**
+     * Drains what was already published, writes it out and closes the file; rethrows the error
+     * that stopped the drainer, if any, wrapped in an IOException unless it was one.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        seal();
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+        IOException e = failure;
+        if (e != null) {
+            throw e;
+        }
+    }
+
+    /**
+     * Runs until the tail is sealed and every slot reserved before that was written; a publisher
+     * that won its CAS but has not filled its slot yet is waited for.
+     */
+    private void drain() {
+        try {
+            while (true) {
+                if (drainBatch() == 0) {
+                    long end = tail.get();
+                    if (end < 0 && head == (end & ~SEALED)) {
+                        return;
+                    }
+                    LockSupport.parkNanos(end < 0 ? IDLE_NANOS / 100 : IDLE_NANOS);
+                }
+            }
+        } catch (Throwable e) {
+            failure =
+                    e instanceof IOException
+                            ? (IOException) e
+                            : new IOException("Buzz sink drainer failed", e);
+            seal();
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+
+    private void seal() {
+        long t;
+        do {
+            t = tail.get();
+        } while (t >= 0 && !tail.compareAndSet(t, t | SEALED));
+    }
+
+    private int drainBatch() throws IOException {
+        int n = 0;
+        while (n < BATCH) {
+            int slot = (int) head & mask;
+            if (sequence.get(slot) != head + 1) {
+                break;
+            }
+            Buzz buzz = slots.get(slot);
+            slots.lazySet(slot, null);
+            sequence.set(slot, head + mask + 1);
+            head++;
+            try {
+                render(buzz);
+            } catch (RuntimeException e) {
+                unrendered.incrementAndGet();
+                line.setLength(0);
+                line.append("! ").append(buzz.getClass().getName());
+                line.append(" could not be rendered: ").append(e.getClass().getName());
+                line.append('\n');
+            }
+            encode();
+            n++;
+        }
+        if (n > 0) {
+            flush();
+            written.addAndGet(n);
+        }
+        return n;
+    }
+
+    /** Builds {@code buzz}'s lines in {@link #line}; its methods may be overridden, and throw. */
+    private void render(Buzz buzz) {
+        line.setLength(0);
+        line.append("0x").append(Integer.toHexString(buzz.code()).toUpperCase());
+        line.append(" [").append(buzz.bee()).append("] ").append(buzz.msg());
+        if (buzz.context() != null) {
+            line.append(" {").append(buzz.context()).append('}');
+        }
+        line.append('\n');
+        StackTraceElement[] frames = buzz.getStackTrace();
+        if (frames.length > 0) {
+            BuzzTrace.Trace trace = buzz.trace();
+            int slot = (int) (trace.fingerprint() ^ (trace.fingerprint() >>> 32)) & (PRINTED - 1);
+            if (printed[slot] == trace.fingerprint()) {
+                line.append("\t... seen ").append(trace.seen()).append(" times, fingerprint ");
+                line.append(Long.toHexString(trace.fingerprint())).append('\n');
+            } else {
+                printed[slot] = trace.fingerprint();
+                line.append("\tfingerprint ");
+                line.append(Long.toHexString(trace.fingerprint())).append('\n');
+                for (StackTraceElement frame : frames) {
+                    line.append("\tat ").append(frame).append('\n');
+                }
+            }
+        } else if (buzz.capture().kind() == BuzzStack.Kind.SAMPLED) {
+            line.append("\t... stack not sampled, ").append(buzz.capture()).append('\n');
+        }
+    }
+
+    private void encode() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (encoder.encode(chars, out, true).isOverflow()) {
+            flush();
+        }
+        while (encoder.flush(out).isOverflow()) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+        out.clear();
+    }
+}
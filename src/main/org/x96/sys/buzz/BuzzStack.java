@@ -0,0 +1,354 @@
+package org.x96.sys.buzz;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How much stack a Buzz records when it is built. The default, {@link Capture#FULL}, is the plain
+ * {@code fillInStackTrace()}; {@link Capture#top} walks only the innermost frames with a {@link
+ * StackWalker}, which stays cheap on deep stacks. A capture can be chosen globally, per code, or
+ * per instance through {@link Buzz#captured}. {@link Capture#oneIn} and {@link Capture#perSecond}
+ * sample either of them, so a hot code records its stack only now and then.
+ */
+public final class BuzzStack {
+
+    public enum Kind {
+        /** Every frame, as {@code fillInStackTrace()} records them. */
+        FULL,
+        /** Only the innermost frames, optionally without some packages. */
+        TOP,
+        /** Frames supplied from elsewhere, such as a decoded {@link BuzzCodec} payload. */
+        PROVIDED,
+        /** No stack at all; the trace is not writable. */
+        NONE,
+        /** No stack because a sampling policy skipped this occurrence. */
+        SAMPLED
+    }
+
+    public static final class Capture implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        public static final Capture FULL = new Capture(Kind.FULL, Integer.MAX_VALUE);
+        public static final Capture NONE = new Capture(Kind.NONE, 0);
+
+        static final Capture PROVIDED = new Capture(Kind.PROVIDED, 0);
+
+        private final Kind kind;
+        private final int frames;
+        private final String[] skipPackages;
+
+        /** Set on sampled captures, and on the {@code SAMPLED} stand-in they hand out. */
+        private final Sampler sampler;
+
+        /** What a sampled capture yields when the sampler says no. */
+        private final Capture skipped;
+
+        private Capture(Kind kind, int frames, String... skipPackages) {
+            this.kind = kind;
+            this.frames = frames;
+            this.skipPackages = skipPackages;
+            this.sampler = null;
+            this.skipped = null;
+        }
+
+        private Capture(Capture base, Sampler sampler) {
+            this.kind = base.kind;
+            this.frames = base.frames;
+            this.skipPackages = base.skipPackages;
+            this.sampler = sampler;
+            this.skipped = new Capture(this);
+        }
+
+        private Capture(Capture sampled) {
+            this.kind = Kind.SAMPLED;
+            this.frames = 0;
+            this.skipPackages = sampled.skipPackages;
+            this.sampler = sampled.sampler;
+            this.skipped = null;
+        }
+
+        /**
+         * The innermost {@code frames} frames, leaving out frames whose class lives in one of
+         * {@code skipPackages} (for example framework proxies) before counting.
+         */
+        public static Capture top(int frames, String... skipPackages) {
+            if (frames < 1) {
+                throw new IllegalArgumentException("frames must be positive: " + frames);
+            }
+            String[] prefixes = new String[skipPackages.length];
+            for (int i = 0; i < prefixes.length; i++) {
+                String p = skipPackages[i];
+                prefixes[i] = p.endsWith(".") ? p : p + ".";
+            }
+            return new Capture(Kind.TOP, frames, prefixes);
+        }
+
+        /**
+         * {@code base} on the first occurrence, then on about one in {@code n}, picked with
+         * {@link ThreadLocalRandom}; every other Buzz gets a {@link Kind#SAMPLED} capture.
+         */
+        public static Capture oneIn(Capture base, int n) {
+            if (n < 1) {
+                throw new IllegalArgumentException("n must be positive: " + n);
+            }
+            return new Capture(sampleable(base), new OneIn(n));
+        }
+
+        /** {@code base} on at most {@code limit} Buzz per second, {@link Kind#SAMPLED} beyond. */
+        public static Capture perSecond(Capture base, int limit) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("limit must be positive: " + limit);
+            }
+            return new Capture(sampleable(base), new PerSecond(limit));
+        }
+
+        private static Capture sampleable(Capture base) {
+            if (base == null) {
+                throw new NullPointerException("base");
+            }
+            if ((base.kind != Kind.FULL && base.kind != Kind.TOP) || base.sampler != null) {
+                throw new IllegalArgumentException("cannot sample " + base);
+            }
+            return base;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
+
+        /** Whether this capture comes from a sampling policy, whichever way it decided. */
+        public boolean sampled() {
+            return sampler != null;
+        }
+
+        public int frames() {
+            return frames;
+        }
+
+        public String[] skipPackages() {
+            return skipPackages.clone();
+        }
+
+        boolean skips(String className) {
+            for (String prefix : skipPackages) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean writable() {
+            return kind != Kind.NONE && kind != Kind.SAMPLED;
+        }
+
+        /** The capture to use for one Buzz: this one, or its stand-in when sampled out. */
+        Capture decide() {
+            return sampler == null || kind == Kind.SAMPLED || sampler.take() ? this : skipped;
+        }
+
+        /** A copy with its own sampling state, so codes sharing a policy do not share counts. */
+        Capture fresh() {
+            return sampler == null || kind == Kind.SAMPLED
+                    ? this
+                    : new Capture(this, sampler.fresh());
+        }
+
+        @Override
+        public String toString() {
+            if (kind == Kind.SAMPLED) {
+                return "SAMPLED(" + sampler + ")";
+            }
+            String base;
+            if (kind != Kind.TOP) {
+                base = kind.name();
+            } else {
+                base =
+                        skipPackages.length == 0
+                                ? "TOP(" + frames + ")"
+                                : "TOP(" + frames + ", skip " + Arrays.toString(skipPackages) + ")";
+            }
+            return sampler == null ? base : base + ", " + sampler;
+        }
+    }
+
+    abstract static class Sampler implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        abstract boolean take();
+
+        abstract Sampler fresh();
+    }
+
+    private static final class OneIn extends Sampler {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int n;
+        private volatile boolean seen;
+
+        OneIn(int n) {
+            this.n = n;
+        }
+
+        @Override
+        boolean take() {
+            if (!seen) {
+                seen = true;
+                return true;
+            }
+            return n == 1 || ThreadLocalRandom.current().nextInt(n) == 0;
+        }
+
+        @Override
+        Sampler fresh() {
+            return new OneIn(n);
+        }
+
+        @Override
+        public String toString() {
+            return "1 in " + n;
+        }
+    }
+
+    /**
+     * Second and count packed in one word: rejects past the limit are a single volatile read, and
+     * only the first {@code limit} Buzz of each second pay a CAS. Also throttles {@link BuzzEvent}.
+     */
+    static final class PerSecond extends Sampler {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int limit;
+        private final AtomicLong window;
+
+        PerSecond(int limit) {
+            this.limit = limit;
+            this.window = new AtomicLong(pack(second() - 1, 0));
+        }
+
+        @Override
+        boolean take() {
+            int now = second();
+            while (true) {
+                long w = window.get();
+                int count = (int) w;
+                if ((int) (w >>> 32) != now) {
+                    if (window.compareAndSet(w, pack(now, 1))) {
+                        return true;
+                    }
+                } else if (count >= limit) {
+                    return false;
+                } else if (window.compareAndSet(w, w + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        Sampler fresh() {
+            return new PerSecond(limit);
+        }
+
+        private static int second() {
+            return (int) (System.nanoTime() / 1_000_000_000L);
+        }
+
+        private static long pack(int second, int count) {
+            return ((long) second << 32) | (count & 0xFFFFFFFFL);
+        }
+
+        @Override
+        public String toString() {
+            return limit + "/s";
+        }
+    }
+
+    private static final StackWalker WALKER =
+            StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static volatile Capture global = Capture.FULL;
+    private static volatile IntTable<Capture> perCode = IntTable.empty();
+
+    /** Per-code copies of a sampled {@link #global}, created on a code's first Buzz. */
+    private static volatile IntTable<Capture> derived = IntTable.empty();
+
+    private BuzzStack() {}
+
+    /**
+     * Capture for every code without its own setting; a sampled capture keeps separate sampling
+     * state for each code, as if set through {@link #capture(int, Capture)}.
+     */
+    public static synchronized void capture(Capture capture) {
+        if (capture == null) {
+            throw new NullPointerException("capture");
+        }
+        global = capture;
+        derived = IntTable.empty();
+    }
+
+    /** Capture for one code; a sampled capture keeps its own sampling state for this code. */
+    public static synchronized void capture(int code, Capture capture) {
+        if (capture == null) {
+            throw new NullPointerException("capture");
+        }
+        perCode = perCode.with(code, capture.fresh());
+    }
+
+    /** Back to {@link Capture#FULL} everywhere. */
+    public static synchronized void reset() {
+        global = Capture.FULL;
+        perCode = IntTable.empty();
+        derived = IntTable.empty();
+    }
+
+    /** The capture the next Buzz with {@code code} gets, after any sampling decision. */
+    public static Capture captureFor(int code) {
+        Capture capture = perCode.get(code);
+        if (capture == null) {
+            capture = global;
+            if (capture.sampler != null) {
+                Capture own = derived.get(code);
+                capture = own != null ? own : derive(code);
+            }
+        }
+        return capture.decide();
+    }
+
+    private static synchronized Capture derive(int code) {
+        Capture own = derived.get(code);
+        if (own == null) {
+            own = global.fresh();
+            derived = derived.with(code, own);
+        }
+        return own;
+    }
+
+    /**
+     * The caller's innermost frames, starting at the code that asked for the Buzz: constructors of
+     * Throwable classes are left out, as {@code fillInStackTrace()} does, and so are the {@link
+     * Buzz} factories and this class.
+     */
+    static StackTraceElement[] walk(Capture capture) {
+        return WALKER.walk(
+                frames ->
+                        frames.dropWhile(BuzzStack::internal)
+                                .filter(f -> !capture.skips(f.getClassName()))
+                                .limit(capture.frames)
+                                .map(StackWalker.StackFrame::toStackTraceElement)
+                                .toArray(StackTraceElement[]::new));
+    }
+
+    private static boolean internal(StackWalker.StackFrame frame) {
+        Class<?> type = frame.getDeclaringClass();
+        return type == BuzzStack.class
+                || type == Buzz.class
+                || (Throwable.class.isAssignableFrom(type)
+                        && (frame.getMethodName().equals("<init>")
+                                || frame.getMethodName().equals("fillInStackTrace")));
+    }
+}
@@ -0,0 +1,53 @@
+package org.x96.sys.buzz;
+
+import java.util.Arrays;
+
+/**
+ * Substitutes {@code {}} placeholders left to right with the string form of each argument, the
+ * way logging facades do: no format parsing, no boxing beyond what the caller did. Placeholders
+ * without an argument stay as {@code {}}; arguments without a placeholder are ignored.
+ */
+final class BuzzTemplate {
+
+    private BuzzTemplate() {}
+
+    static String render(String template, Object[] args) {
+        if (template == null) {
+            return null;
+        }
+        return render(template, args, new StringBuilder(template.length() + 16 * args.length))
+                .toString();
+    }
+
+    static StringBuilder render(String template, Object[] args, StringBuilder out) {
+        int from = 0;
+        for (Object arg : args) {
+            int at = template.indexOf("{}", from);
+            if (at < 0) {
+                break;
+            }
+            out.append(template, from, at);
+            append(out, arg);
+            from = at + 2;
+        }
+        return out.append(template, from, template.length());
+    }
+
+    /** Number of {@code {}} placeholders, used to tell a trailing cause from an argument. */
+    static int placeholders(String template) {
+        int n = 0;
+        for (int at = template.indexOf("{}"); at >= 0; at = template.indexOf("{}", at + 2)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static void append(StringBuilder out, Object arg) {
+        try {
+            out.append(arg instanceof Object[] ? Arrays.deepToString((Object[]) arg) : arg);
+        } catch (RuntimeException e) {
+            out.append('[').append(arg.getClass().getName()).append(".toString() threw ");
+            out.append(e.getClass().getName()).append(']');
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.x96.sys.buzz;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stack-trace fingerprints and a bounded intern table of traces. Identical traces from the same
+ * call site share one set of {@link StackTraceElement}s, and each interned trace counts how often
+ * it was seen, so sinks can print a trace once and refer to it by fingerprint afterwards.
+ */
+public final class BuzzTrace {
+
+    static final int SLOTS = 4096;
+
+    private static final int MASK = SLOTS - 1;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    public static final class Trace {
+
+        private final long fingerprint;
+        final StackTraceElement[] frames;
+        private final LongAdder seen = new LongAdder();
+
+        Trace(long fingerprint, StackTraceElement[] frames) {
+            this.fingerprint = fingerprint;
+            this.frames = frames;
+        }
+
+        public long fingerprint() {
+            return fingerprint;
+        }
+
+        public StackTraceElement[] frames() {
+            return frames.clone();
+        }
+
+        /** Times this trace was interned since it entered the table. */
+        public long seen() {
+            return seen.sum();
+        }
+    }
+
+    private static final AtomicReferenceArray<Trace> TABLE = new AtomicReferenceArray<>(SLOTS);
+
+    private BuzzTrace() {}
+
+    /**
+     * A 64-bit FNV-1a hash over each frame's class, method, file and line. It only depends on
+     * {@code String.hashCode}, so the same trace has the same fingerprint in every JVM run.
+     */
+    public static long fingerprint(StackTraceElement[] frames) {
+        long h = FNV_OFFSET;
+        for (StackTraceElement frame : frames) {
+            h = (h ^ frame.getClassName().hashCode()) * FNV_PRIME;
+            h = (h ^ frame.getMethodName().hashCode()) * FNV_PRIME;
+            h = (h ^ String.valueOf(frame.getFileName()).hashCode()) * FNV_PRIME;
+            h = (h ^ frame.getLineNumber()) * FNV_PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * The shared trace equal to {@code frames}. Each fingerprint maps to one slot, and a different
+     * trace landing there replaces the old one, so the table never holds more than {@link #SLOTS}.
+     */
+    public static Trace intern(StackTraceElement[] frames) {
+        long fingerprint = fingerprint(frames);
+        int slot = (int) (fingerprint ^ (fingerprint >>> 32)) & MASK;
+        Trace trace = TABLE.get(slot);
+        if (trace == null
+                || trace.fingerprint != fingerprint
+                || !Arrays.equals(trace.frames, frames)) {
+            trace = new Trace(fingerprint, frames.clone());
+            TABLE.set(slot, trace);
+        }
+        trace.seen.increment();
+        return trace;
+    }
+
+    static void clear() {
+        for (int i = 0; i < SLOTS; i++) {
+            TABLE.set(i, null);
+        }
+    }
+}
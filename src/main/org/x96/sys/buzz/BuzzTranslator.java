@@ -0,0 +1,167 @@
+package org.x96.sys.buzz;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Turns foreign exceptions into Buzz at service boundaries. Exception types are mapped to a code
+ * and bee once, in a builder; the mapping for each concrete class, found by walking its
+ * superclasses and interfaces, is then cached in a {@link ClassValue}, so later lookups are one
+ * lock-free read.
+ *
+ * <pre>{@code
+ * BuzzTranslator translator =
+ *         BuzzTranslator.builder()
+ *                 .map(FileNotFoundException.class, 0x404, "FILE")
+ *                 .map(IOException.class, 0x300, "IO")
+ *                 .build(0x500, "INTERNAL");
+ *
+ * throw translator.translate(e);
+ * }</pre>
+ */
+public final class BuzzTranslator {
+
+    private static final class Mapping {
+        final int code;
+        final String bee;
+        final BuzzStack.Capture capture;
+
+        Mapping(int code, String bee, BuzzStack.Capture capture) {
+            this.code = code;
+            this.bee = bee;
+            this.capture = capture;
+        }
+    }
+
+    /** Cached for classes no mapping covers, since a {@link ClassValue} cannot hold null. */
+    private static final Mapping UNMAPPED = new Mapping(0, null, BuzzStack.Capture.NONE);
+
+    public static final class Builder {
+
+        private final Map<Class<?>, Mapping> mappings = new HashMap<>();
+        private BuzzStack.Capture capture = BuzzStack.Capture.NONE;
+
+        private Builder() {}
+
+        /** Stack capture for mappings that do not set their own; none by default. */
+        public Builder capture(BuzzStack.Capture capture) {
+            this.capture = Objects.requireNonNull(capture, "capture");
+            return this;
+        }
+
+        public Builder map(Class<?> type, int code, String bee) {
+            return map(type, code, bee, null);
+        }
+
+        /**
+         * {@code type} and its subtypes, unless a subtype has its own mapping. {@code type} is a
+         * Throwable class, or an interface some exceptions implement, such as a retryable marker.
+         */
+        public Builder map(Class<?> type, int code, String bee, BuzzStack.Capture capture) {
+            Objects.requireNonNull(type, "type");
+            if (!type.isInterface() && !Throwable.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Not an exception type: " + type.getName());
+            }
+            if (Buzz.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("Buzz needs no translation: " + type.getName());
+            }
+            if (mappings.putIfAbsent(type, new Mapping(code, BuzzCatalog.intern(bee), capture))
+                    != null) {
+                throw new IllegalArgumentException(type.getName() + " is already mapped");
+            }
+            return this;
+        }
+
+        /**
+         * {@code code} and {@code bee} are used when nothing in the cause chain is mapped. Each
+         * mapping gets its own copy of a sampled capture, so mappings do not share a sampler.
+         */
+        public BuzzTranslator build(int code, String bee) {
+            Map<Class<?>, Mapping> resolved = new HashMap<>();
+            for (Map.Entry<Class<?>, Mapping> e : mappings.entrySet()) {
+                Mapping m = e.getValue();
+                BuzzStack.Capture c = m.capture != null ? m.capture : capture;
+                resolved.put(e.getKey(), new Mapping(m.code, m.bee, c.fresh()));
+            }
+            return new BuzzTranslator(
+                    resolved, new Mapping(code, BuzzCatalog.intern(bee), capture.fresh()));
+        }
+    }
+
+    private final Map<Class<?>, Mapping> mappings;
+    private final Mapping otherwise;
+
+    private final ClassValue<Mapping> resolved =
+            new ClassValue<>() {
+                @Override
+                protected Mapping computeValue(Class<?> type) {
+                    Mapping m = resolve(type);
+                    return m == null ? UNMAPPED : m;
+                }
+            };
+
+    private BuzzTranslator(Map<Class<?>, Mapping> mappings, Mapping otherwise) {
+        this.mappings = Map.copyOf(mappings);
+        this.otherwise = otherwise;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * {@code t} as a Buzz whose cause is {@code t}, so the whole chain is kept. The code and bee
+     * come from the first link of the cause chain that is mapped (or is itself a Buzz), falling
+     * back to the defaults given to {@link Builder#build}; the message is that link's. The new Buzz
+     * records a stack only if the mapping's capture asks for one, since the cause already has its
+     * own. A Buzz is returned as is.
+     */
+    public Buzz translate(Throwable t) {
+        if (t instanceof Buzz) {
+            return (Buzz) t;
+        }
+        Throwable link = t;
+        for (int depth = 0; link != null && depth < BuzzCodec.MAX_CAUSES; depth++) {
+            if (link instanceof Buzz) {
+                Buzz b = (Buzz) link;
+                return new Buzz(b.code(), b.bee(), b.msg(), t, true, BuzzStack.Capture.NONE);
+            }
+            Mapping m = resolved.get(link.getClass());
+            if (m != UNMAPPED) {
+                return buzz(m, link.getMessage(), t);
+            }
+            link = link.getCause();
+        }
+        return buzz(otherwise, t.getMessage(), t);
+    }
+
+    /** The code {@code type} translates to on its own, without looking at causes. */
+    public int code(Class<? extends Throwable> type) {
+        Mapping m = resolved.get(type);
+        return (m == UNMAPPED ? otherwise : m).code;
+    }
+
+    private static Buzz buzz(Mapping m, String msg, Throwable cause) {
+        return new Buzz(m.code, m.bee, msg, cause, true, m.capture.decide());
+    }
+
+    /** The closest mapped supertype: superclasses first, then interfaces at each level. */
+    private Mapping resolve(Class<?> type) {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            Mapping m = mappings.get(c);
+            if (m != null) {
+                return m;
+            }
+        }
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            for (Class<?> i : c.getInterfaces()) {
+                Mapping m = resolve(i);
+                if (m != null) {
+                    return m;
+                }
+            }
+        }
+        return null;
+    }
+}
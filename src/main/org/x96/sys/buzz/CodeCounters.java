@@ -0,0 +1,148 @@
+package org.x96.sys.buzz;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-capacity, lock-free table of per-code {@link LongAdder}s. The first increment of a code
+ * claims a slot with one CAS; later increments go straight to the adder's striped cells. Codes
+ * that no longer fit are summed into a single overflow adder, so memory stays bounded.
+ *
+ * <p>The table has at least twice as many slots as the capacity and probes at most {@link
+ * #MAX_PROBES} of them, so a code past capacity reaches the overflow adder in constant time. A code
+ * whose probe run is exhausted also overflows, which the half-empty table makes rare.
+ */
+final class CodeCounters {
+
+    private static final class Cell {
+        final int code;
+        final LongAdder adder = new LongAdder();
+
+        Cell(int code) {
+            this.code = code;
+        }
+    }
+
+    static final int MAX_PROBES = 16;
+
+    private final AtomicReferenceArray<Cell> cells;
+    private final LongAdder overflow = new LongAdder();
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final int capacity;
+    private final int mask;
+
+    CodeCounters(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 2;
+        this.cells = new AtomicReferenceArray<>(size);
+        this.capacity = capacity;
+        this.mask = size - 1;
+    }
+
+    void increment(int code) {
+        LongAdder adder = adder(code);
+        (adder == null ? overflow : adder).increment();
+    }
+
+    long count(int code) {
+        Cell cell = find(code);
+        return cell == null ? 0 : cell.adder.sum();
+    }
+
+    long overflow() {
+        return overflow.sum();
+    }
+
+    void reset() {
+        for (int i = 0; i <= mask; i++) {
+            Cell cell = cells.get(i);
+            if (cell != null) {
+                cell.adder.reset();
+            }
+        }
+        overflow.reset();
+    }
+
+    /** Codes with a non-zero count, ascending, paired with their counts. */
+    BuzzCounters.Snapshot snapshot(boolean reset) {
+        int[] codes = new int[capacity];
+        long[] counts = new long[capacity];
+        int n = 0;
+        for (int i = 0; i <= mask; i++) {
+            Cell cell = cells.get(i);
+            if (cell == null) {
+                continue;
+            }
+            long count = reset ? cell.adder.sumThenReset() : cell.adder.sum();
+            if (count != 0) {
+                codes[n] = cell.code;
+                counts[n] = count;
+                n++;
+            }
+        }
+        long spilled = reset ? overflow.sumThenReset() : overflow.sum();
+        return sorted(Arrays.copyOf(codes, n), Arrays.copyOf(counts, n), spilled);
+    }
+
+    private LongAdder adder(int code) {
+        for (int probe = 0, i = IntTable.mix(code) & mask; probe < MAX_PROBES; probe++) {
+            Cell cell = cells.get(i);
+            if (cell == null) {
+                if (!claim()) {
+                    return null;
+                }
+                Cell fresh = new Cell(code);
+                if (cells.compareAndSet(i, null, fresh)) {
+                    return fresh.adder;
+                }
+                claimed.decrementAndGet();
+                cell = cells.get(i);
+            }
+            if (cell.code == code) {
+                return cell.adder;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /** Reserves one of the {@code capacity} cells; a plain read once they are all taken. */
+    private boolean claim() {
+        if (claimed.get() >= capacity) {
+            return false;
+        }
+        if (claimed.incrementAndGet() > capacity) {
+            claimed.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private Cell find(int code) {
+        for (int probe = 0, i = IntTable.mix(code) & mask; probe < MAX_PROBES; probe++) {
+            Cell cell = cells.get(i);
+            if (cell == null || cell.code == code) {
+                return cell;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /** Sorts by code through packed {@code (code, index)} longs, so the counts follow along. */
+    private static BuzzCounters.Snapshot sorted(int[] codes, long[] counts, long overflow) {
+        long[] keys = new long[codes.length];
+        for (int i = 0; i < codes.length; i++) {
+            keys[i] = (long) codes[i] << 32 | i;
+        }
+        Arrays.sort(keys);
+        int[] sortedCodes = new int[codes.length];
+        long[] sortedCounts = new long[codes.length];
+        for (int i = 0; i < keys.length; i++) {
+            sortedCodes[i] = (int) (keys[i] >> 32);
+            sortedCounts[i] = counts[(int) keys[i]];
+        }
+        return new BuzzCounters.Snapshot(sortedCodes, sortedCounts, overflow);
+    }
+}
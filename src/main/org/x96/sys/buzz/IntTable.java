@@ -0,0 +1,94 @@
+package org.x96.sys.buzz;
+
+/**
+ * Immutable open-addressing map from {@code int} to a non-null value, with no boxing and no entry
+ * nodes. Writers build a new table with {@link #with} and publish it through a volatile field, so
+ * readers probe plain arrays without locking.
+ */
+final class IntTable<V> {
+
+    private static final IntTable<?> EMPTY = new IntTable<>(new int[8], new Object[8], 0);
+
+    private final int[] keys;
+    private final Object[] values;
+    private final int size;
+
+    private IntTable(int[] keys, Object[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> IntTable<V> empty() {
+        return (IntTable<V>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(int key) {
+        int mask = keys.length - 1;
+        for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /** A copy with {@code key} bound to {@code value}, doubling the arrays past half load. */
+    IntTable<V> with(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        boolean replace = get(key) != null;
+        int length = keys.length;
+        if (!replace && (size + 1) * 2 > length) {
+            length <<= 1;
+        }
+        int[] k = new int[length];
+        Object[] v = new Object[length];
+        for (int i = 0; i < keys.length; i++) {
+            if (values[i] != null && keys[i] != key) {
+                put(k, v, keys[i], values[i]);
+            }
+        }
+        put(k, v, key, value);
+        return new IntTable<>(k, v, replace ? size : size + 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    /** Key in slot {@code i}; only meaningful when {@link #valueAt} is non-null. */
+    int keyAt(int i) {
+        return keys[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int i) {
+        return (V) values[i];
+    }
+
+    private static void put(int[] keys, Object[] values, int key, Object value) {
+        int mask = keys.length - 1;
+        int i = mix(key) & mask;
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
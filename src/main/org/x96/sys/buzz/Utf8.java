@@ -0,0 +1,109 @@
+package org.x96.sys.buzz;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 straight between {@code String} and {@link ByteBuffer}, heap or direct, without going
+ * through {@code getBytes()}. Unpaired surrogates become {@code '?'}, as {@code getBytes} does.
+ */
+final class Utf8 {
+
+    private Utf8() {}
+
+    static int length(String s) {
+        int n = 0;
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                n += 1;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < len
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                n += 1;
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+
+    /** Writes {@code s} at {@code index} without moving the position; returns the end index. */
+    static int put(ByteBuffer out, int index, String s) {
+        for (int i = 0, len = s.length(); i < len; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                out.put(index++, (byte) c);
+            } else if (c < 0x800) {
+                out.put(index++, (byte) (0xC0 | (c >> 6)));
+                out.put(index++, (byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < len
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                out.put(index++, (byte) (0xF0 | (cp >> 18)));
+                out.put(index++, (byte) (0x80 | ((cp >> 12) & 0x3F)));
+                out.put(index++, (byte) (0x80 | ((cp >> 6) & 0x3F)));
+                out.put(index++, (byte) (0x80 | (cp & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                out.put(index++, (byte) '?');
+            } else {
+                out.put(index++, (byte) (0xE0 | (c >> 12)));
+                out.put(index++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+                out.put(index++, (byte) (0x80 | (c & 0x3F)));
+            }
+        }
+        return index;
+    }
+
+    /** Decodes {@code length} bytes at the buffer's position and advances past them. */
+    static String get(ByteBuffer in, int length) {
+        if (length > in.remaining()) {
+            throw new IllegalArgumentException(
+                    "string of " + length + " bytes, " + in.remaining() + " remaining");
+        }
+        int start = in.position();
+        in.position(start + length);
+        return get(in, start, length);
+    }
+
+    /** Decodes {@code length} bytes at {@code index} without moving the position. */
+    static String get(ByteBuffer in, int index, int length) {
+        if (in.hasArray()) {
+            return new String(in.array(), in.arrayOffset() + index, length, StandardCharsets.UTF_8);
+        }
+        char[] chars = new char[length];
+        int n = 0;
+        for (int i = index, end = index + length; i < end; ) {
+            int b = in.get(i++) & 0xFF;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+            } else if (b < 0xE0 && i < end) {
+                chars[n++] = (char) (((b & 0x1F) << 6) | (in.get(i++) & 0x3F));
+            } else if (b < 0xF0 && i + 1 < end) {
+                chars[n++] =
+                        (char)
+                                (((b & 0x0F) << 12)
+                                        | ((in.get(i++) & 0x3F) << 6)
+                                        | (in.get(i++) & 0x3F));
+            } else if (i + 2 < end) {
+                int cp =
+                        ((b & 0x07) << 18)
+                                | ((in.get(i++) & 0x3F) << 12)
+                                | ((in.get(i++) & 0x3F) << 6)
+                                | (in.get(i++) & 0x3F);
+                chars[n++] = Character.highSurrogate(cp);
+                chars[n++] = Character.lowSurrogate(cp);
+            } else {
+                chars[n++] = '�';
+                i = end;
+            }
+        }
+        return new String(chars, 0, n);
+    }
+}
@@ -0,0 +1,338 @@
+package org.x96.sys.buzz;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Scalability harness: throws and catches Buzz from 1 to N platform threads, then from many virtual
+ * threads, for each construction variant, and prints throughput, allocation rate and GC pauses per
+ * row. A {@code scale} column well below 1.0 marks a contention point. Run it with {@code make
+ * stress}; arguments:
+ *
+ * <pre>
+ * --threads 1,2,4,...   platform thread counts (default powers of two up to 64)
+ * --virtual 1000,...    virtual thread counts (default 1000,10000,100000)
+ * --ops N               throws per virtual thread (default 1000)
+ * --seconds S           measured time per platform row (default 2)
+ * --variants a,b        subset of construct, message, template, stackless, cached
+ * </pre>
+ *
+ * Allocation is read from the heap: bytes freed by every collection plus the growth in use over the
+ * row, so it covers virtual threads too. Virtual rows are skipped on a JDK without them.
+ */
+public final class BuzzStress {
+
+    private static final String BEE = "NOT_FOUND";
+    private static final String MSG = "Recurso não encontrado";
+
+    private enum Variant {
+        CONSTRUCT(i -> new Buzz(404, BEE, MSG)),
+        MESSAGE(i -> new Buzz(404, BEE, MSG)),
+        TEMPLATE(i -> Buzz.of(404, BEE, "user {} not found in {}", i, "shard-7")),
+        STACKLESS(i -> Buzz.stackless(404, BEE, MSG)),
+        CACHED(i -> Buzz.cached(404, BEE, MSG));
+
+        final IntFunction<Buzz> factory;
+
+        Variant(IntFunction<Buzz> factory) {
+            this.factory = factory;
+        }
+
+        /** One throw and catch; the message variant also reads the message. */
+        long once(int i) {
+            try {
+                throw factory.apply(i);
+            } catch (Buzz buzz) {
+                return this == MESSAGE ? buzz.getMessage().length() : buzz.code();
+            }
+        }
+    }
+
+    /** Heap bytes freed and pause time across collections, fed by GC notifications. */
+    private static final class GcWatch implements NotificationListener {
+
+        final AtomicLong freed = new AtomicLong();
+        final AtomicLong pauses = new AtomicLong();
+        final AtomicLong pauseMillis = new AtomicLong();
+        final AtomicLong maxPauseMillis = new AtomicLong();
+
+        @Override
+        public void handleNotification(javax.management.Notification n, Object handback) {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(
+                    n.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) n.getUserData());
+            long before = 0;
+            long after = 0;
+            for (MemoryUsage usage : info.getGcInfo().getMemoryUsageBeforeGc().values()) {
+                before += usage.getUsed();
+            }
+            for (MemoryUsage usage : info.getGcInfo().getMemoryUsageAfterGc().values()) {
+                after += usage.getUsed();
+            }
+            freed.addAndGet(Math.max(0, before - after));
+            String name = info.getGcName();
+            if (!name.contains("Concurrent") && !name.contains("Cycles")) {
+                long millis = info.getGcInfo().getDuration();
+                pauses.incrementAndGet();
+                pauseMillis.addAndGet(millis);
+                maxPauseMillis.accumulateAndGet(millis, Math::max);
+            }
+        }
+
+        void reset() {
+            freed.set(0);
+            pauses.set(0);
+            pauseMillis.set(0);
+            maxPauseMillis.set(0);
+        }
+    }
+
+    private static final GcWatch GC = new GcWatch();
+
+    /** Keeps results observable so the loops are not optimised away. */
+    private static volatile long sink;
+
+    private BuzzStress() {}
+
+    public static void main(String[] args) throws Exception {
+        int[] threads = {1, 2, 4, 8, 16, 32, 64};
+        int[] virtual = {1_000, 10_000, 100_000};
+        int ops = 1_000;
+        double seconds = 2;
+        List<Variant> variants = List.of(Variant.values());
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--threads":
+                    threads = ints(value);
+                    break;
+                case "--virtual":
+                    virtual = ints(value);
+                    break;
+                case "--ops":
+                    ops = Integer.parseInt(value);
+                    break;
+                case "--seconds":
+                    seconds = Double.parseDouble(value);
+                    break;
+                case "--variants":
+                    variants = new ArrayList<>();
+                    for (String name : value.split(",")) {
+                        variants.add(Variant.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown option " + args[i]);
+            }
+        }
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) bean).addNotificationListener(GC, null, null);
+        }
+
+        System.out.printf(
+                "%-10s %-8s %7s %14s %6s %10s %8s %5s %9s %7s%n",
+                "variant",
+                "threads",
+                "count",
+                "throws/s",
+                "scale",
+                "alloc MB/s",
+                "B/op",
+                "gcs",
+                "pause ms",
+                "max ms");
+        ExecutorService virtualThreads = virtualExecutor();
+        for (Variant variant : variants) {
+            platform(variant, 1, Math.min(seconds, 1));
+            double single = 0;
+            for (int n : threads) {
+                Row row = platform(variant, n, seconds);
+                if (single == 0) {
+                    single = row.rate / n;
+                }
+                row.print(variant, "platform", n, row.rate / (single * n));
+            }
+            if (virtualThreads == null) {
+                System.out.printf("%-10s virtual threads need JDK 21 or later%n", name(variant));
+                continue;
+            }
+            for (int n : virtual) {
+                Row row = virtualRow(variant, virtualThreads, n, ops);
+                row.print(variant, "virtual", n, Double.NaN);
+            }
+        }
+        if (virtualThreads != null) {
+            virtualThreads.shutdown();
+        }
+    }
+
+    /** {@code n} platform threads throwing for {@code seconds}. */
+    private static Row platform(Variant variant, int n, double seconds)
+            throws InterruptedException {
+        // one count per 128 bytes, so workers never share a cache line
+        long[] counts = new long[n * 16];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[n];
+        Stopper stopper = new Stopper();
+        for (int t = 0; t < n; t++) {
+            int slot = t * 16;
+            workers[t] =
+                    new Thread(
+                            () -> {
+                                awaitQuietly(start);
+                                long local = 0;
+                                long acc = 0;
+                                while (!stopper.stop) {
+                                    for (int i = 0; i < 256; i++) {
+                                        acc += variant.once(i);
+                                    }
+                                    local += 256;
+                                }
+                                counts[slot] = local;
+                                sink += acc;
+                            },
+                            "buzz-stress-" + t);
+            workers[t].start();
+        }
+        Row row = Row.begin();
+        start.countDown();
+        Thread.sleep((long) (seconds * 1000));
+        stopper.stop = true;
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long total = 0;
+        for (int t = 0; t < n; t++) {
+            total += counts[t * 16];
+        }
+        row.end(total);
+        return row;
+    }
+
+    /** {@code n} virtual threads throwing {@code ops} times each, yielding now and then. */
+    private static Row virtualRow(Variant variant, ExecutorService executor, int n, int ops)
+            throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(n);
+        AtomicLong acc = new AtomicLong();
+        Row row = Row.begin();
+        for (int t = 0; t < n; t++) {
+            executor.execute(
+                    () -> {
+                        long local = 0;
+                        for (int i = 0; i < ops; i++) {
+                            local += variant.once(i);
+                            if ((i & 127) == 127) {
+                                Thread.yield();
+                            }
+                        }
+                        acc.addAndGet(local);
+                        done.countDown();
+                    });
+        }
+        done.await();
+        row.end((long) n * ops);
+        sink += acc.get();
+        return row;
+    }
+
+    private static final class Stopper {
+        volatile boolean stop;
+    }
+
+    /** Throughput, allocation and GC figures for one row of the table. */
+    private static final class Row {
+
+        long startNanos;
+        long startUsed;
+        double seconds;
+        double rate;
+        long total;
+        long allocated;
+
+        static Row begin() {
+            System.gc();
+            GC.reset();
+            Row row = new Row();
+            row.startUsed = used();
+            row.startNanos = System.nanoTime();
+            return row;
+        }
+
+        void end(long total) {
+            this.seconds = (System.nanoTime() - startNanos) / 1e9;
+            this.allocated = Math.max(0, used() - startUsed + GC.freed.get());
+            this.total = total;
+            this.rate = total / seconds;
+        }
+
+        /** {@code scale}: throughput over n times the single-thread rate; NaN leaves it blank. */
+        void print(Variant variant, String kind, int n, double scale) {
+            System.out.printf(
+                    Locale.ROOT,
+                    "%-10s %-8s %7d %14.0f %6s %10.1f %8.1f %5d %9d %7d%n",
+                    name(variant),
+                    kind,
+                    n,
+                    rate,
+                    Double.isNaN(scale) ? "" : String.format(Locale.ROOT, "%.2f", scale),
+                    allocated / seconds / (1 << 20),
+                    total == 0 ? 0.0 : (double) allocated / total,
+                    GC.pauses.get(),
+                    GC.pauseMillis.get(),
+                    GC.maxPauseMillis.get());
+        }
+
+        private static long used() {
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    private static String name(Variant variant) {
+        return variant.name().toLowerCase(Locale.ROOT);
+    }
+
+    /** {@code Executors.newVirtualThreadPerTaskExecutor()}, or {@code null} before JDK 21. */
+    private static ExecutorService virtualExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static int[] ints(String csv) {
+        String[] parts = csv.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Integer.parseInt(parts[i].trim());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,163 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+@DisplayName("Testes para BuzzAggregate")
+class BuzzAggregateTest {
+
+    private static Buzz buzz(int code) {
+        return Buzz.stackless(code, "TASK", "tarefa " + code);
+    }
+
+    @Nested
+    @DisplayName("Testes de Contagem")
+    class CountTests {
+
+        @Test
+        @DisplayName("Deve contar por código")
+        void shouldCountPerCode() {
+            BuzzAggregate aggregate = new BuzzAggregate();
+
+            aggregate.add(buzz(1));
+            aggregate.add(buzz(1));
+            aggregate.add(buzz(2));
+
+            assertEquals(2, aggregate.count(1));
+            assertEquals(1, aggregate.count(2));
+            assertEquals(0, aggregate.count(3));
+            assertEquals(3, aggregate.total());
+            assertFalse(aggregate.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Códigos além da capacidade devem ir para o overflow")
+        void extraCodesShouldOverflow() {
+            BuzzAggregate aggregate = new BuzzAggregate(0, 2);
+
+            for (int code = 0; code < 10; code++) {
+                aggregate.add(buzz(code));
+            }
+
+            assertEquals(10, aggregate.total());
+            assertTrue(aggregate.snapshot().overflow() > 0);
+        }
+
+        @Test
+        @DisplayName("Deve contar corretamente a partir de muitas threads")
+        void shouldCountFromManyThreads() {
+            BuzzAggregate aggregate = new BuzzAggregate(4, 16);
+            Buzz failure = buzz(7);
+
+            ForkJoinPool.commonPool()
+                    .submit(
+                            () ->
+                                    IntStream.range(0, 1_000_000)
+                                            .parallel()
+                                            .forEach(i -> aggregate.add(failure)))
+                    .join();
+
+            assertEquals(1_000_000, aggregate.count(7));
+            assertEquals(4, aggregate.exemplars().size());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar parâmetros inválidos")
+        void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new BuzzAggregate(-1, 8));
+            assertThrows(IllegalArgumentException.class, () -> new BuzzAggregate(1, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Exemplares")
+    class ExemplarTests {
+
+        @Test
+        @DisplayName("Deve manter apenas os primeiros K")
+        void shouldKeepFirstK() {
+            BuzzAggregate aggregate = new BuzzAggregate(2, 8);
+            Buzz first = buzz(1);
+            Buzz second = buzz(2);
+
+            aggregate.add(first);
+            aggregate.add(second);
+            aggregate.add(buzz(3));
+
+            assertEquals(List.of(first, second), aggregate.exemplars());
+        }
+
+        @Test
+        @DisplayName("Lista de exemplares não deve ser modificável")
+        void exemplarsShouldBeUnmodifiable() {
+            BuzzAggregate aggregate = new BuzzAggregate();
+            aggregate.add(buzz(1));
+
+            assertThrows(UnsupportedOperationException.class, () -> aggregate.exemplars().clear());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Combinação")
+    class CombineTests {
+
+        @Test
+        @DisplayName("Sem falhas não deve haver Buzz combinado")
+        void emptyShouldCombineToNull() {
+            BuzzAggregate aggregate = new BuzzAggregate();
+
+            assertTrue(aggregate.isEmpty());
+            assertNull(aggregate.combine(500, "BATCH"));
+            assertDoesNotThrow(() -> aggregate.throwIfAny(500, "BATCH"));
+        }
+
+        @Test
+        @DisplayName("Buzz combinado deve resumir as contagens")
+        void combinedShouldSummarise() {
+            BuzzAggregate aggregate = new BuzzAggregate(1, 8);
+            Buzz first = buzz(0x194);
+            aggregate.add(first);
+            aggregate.add(buzz(0x194));
+            aggregate.add(buzz(0x1F4));
+
+            Buzz combined = aggregate.combine(500, "BATCH");
+
+            assertEquals(500, combined.code());
+            assertEquals("BATCH", combined.bee());
+            assertEquals("3 failed: 0x194 x2, 0x1F4 x1", combined.msg());
+            assertArrayEquals(new Throwable[] {first}, combined.getSuppressed());
+        }
+
+        @Test
+        @DisplayName("Muitos códigos devem ser resumidos")
+        void manyCodesShouldBeSummarised() {
+            BuzzAggregate aggregate = new BuzzAggregate(0, 64);
+            for (int code = 1; code <= 20; code++) {
+                aggregate.add(buzz(code));
+            }
+
+            String msg = aggregate.combine(500, "BATCH").msg();
+
+            assertTrue(msg.startsWith("20 failed: 0x1 x1, 0x2 x1"), msg);
+            assertTrue(msg.endsWith("0x10 x1, 4 in other codes"), msg);
+        }
+
+        @Test
+        @DisplayName("throwIfAny deve lançar o Buzz combinado")
+        void throwIfAnyShouldThrow() {
+            BuzzAggregate aggregate = new BuzzAggregate();
+            aggregate.add(buzz(1));
+
+            Buzz thrown = assertThrows(Buzz.class, () -> aggregate.throwIfAny(500, "BATCH"));
+
+            assertEquals("1 failed: 0x1 x1", thrown.msg());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Testes para o cache de instâncias Buzz")
+class BuzzCacheTest {
+
+    @Nested
+    @DisplayName("Testes de Reuso")
+    class ReuseTests {
+
+        @Test
+        @DisplayName("Deve devolver a mesma instância para os mesmos argumentos")
+        void shouldReturnSameInstanceForSameArguments() {
+            Buzz first = Buzz.cached(404, "NOT_FOUND", "Recurso não encontrado");
+            Buzz second = Buzz.cached(404, "NOT_FOUND", "Recurso não encontrado");
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Deve diferenciar código, bee e mensagem")
+        void shouldDistinguishArguments() {
+            Buzz base = Buzz.cached(1, "A", "m");
+
+            assertNotSame(base, Buzz.cached(2, "A", "m"));
+            assertNotSame(base, Buzz.cached(1, "B", "m"));
+            assertNotSame(base, Buzz.cached(1, "A", "n"));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar valores nulos")
+        void shouldAcceptNulls() {
+            Buzz buzz = Buzz.cached(0, null, null);
+
+            assertSame(buzz, Buzz.cached(0, null, null));
+            assertEquals(Buzz.format(0, null, null), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Deve permanecer limitado ao número de slots")
+        void shouldStayBounded() {
+            BuzzCache cache = new BuzzCache();
+            for (int i = 0; i < BuzzCache.SLOTS * 4; i++) {
+                Buzz buzz = cache.get(i, "BOUND", "limite");
+                assertSame(buzz, cache.get(i, "BOUND", "limite"));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve reconstruir após limpeza")
+        void shouldRebuildAfterClear() {
+            BuzzCache cache = new BuzzCache();
+            Buzz before = cache.get(7, "CLEAR", "limpo");
+
+            cache.clear();
+
+            assertNotSame(before, cache.get(7, "CLEAR", "limpo"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Imutabilidade")
+    class ImmutabilityTests {
+
+        @Test
+        @DisplayName("Mensagem deve vir pré-formatada")
+        void messageShouldBePreformatted() throws Exception {
+            Buzz buzz = Buzz.cached(403, "FORBIDDEN", "Acesso negado");
+
+            var field = Buzz.class.getDeclaredField("message");
+            field.setAccessible(true);
+            assertEquals(Buzz.format(403, "FORBIDDEN", "Acesso negado"), field.get(buzz));
+        }
+
+        @Test
+        @DisplayName("Não deve ter stack trace")
+        void shouldNotHaveStackTrace() {
+            Buzz buzz = Buzz.cached(500, "STACK", "sem pilha");
+
+            buzz.setStackTrace(new Throwable().getStackTrace());
+
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Não deve aceitar supressão")
+        void shouldIgnoreSuppressed() {
+            Buzz buzz = Buzz.cached(500, "SUPPRESS", "sem supressão");
+
+            buzz.addSuppressed(new IllegalStateException("ignorada"));
+
+            assertEquals(0, buzz.getSuppressed().length);
+        }
+
+        @Test
+        @DisplayName("Não deve aceitar causa")
+        void shouldRejectCause() {
+            Buzz buzz = Buzz.cached(500, "CAUSE", "sem causa");
+
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> buzz.initCause(new IllegalStateException("causa")));
+            assertNull(buzz.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Deve ser seguro entre threads")
+        void shouldBeThreadSafe() throws Exception {
+            int threads = 8;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    futures[t] =
+                            pool.submit(
+                                    () -> {
+                                        start.await();
+                                        for (int i = 0; i < 10_000; i++) {
+                                            int code = i % 64;
+                                            Buzz buzz = Buzz.cached(code, "MT", "concorrente");
+                                            assertEquals(
+                                                    Buzz.format(code, "MT", "concorrente"),
+                                                    buzz.getMessage());
+                                        }
+                                        return null;
+                                    });
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+}
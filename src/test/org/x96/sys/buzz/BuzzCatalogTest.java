@@ -0,0 +1,120 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para o catálogo de códigos Buzz")
+class BuzzCatalogTest {
+
+    @Nested
+    @DisplayName("Testes de Registro")
+    class RegisterTests {
+
+        @Test
+        @DisplayName("Deve registrar e encontrar um código")
+        void shouldRegisterAndLookup() {
+            BuzzCatalog.Entry entry =
+                    BuzzCatalog.register(
+                            0x7001, "CATALOG_FOUND", "encontrado", BuzzCatalog.Severity.WARN);
+
+            assertSame(entry, BuzzCatalog.lookup(0x7001));
+            assertTrue(BuzzCatalog.contains(0x7001));
+            assertEquals("CATALOG_FOUND", entry.bee());
+            assertEquals("encontrado", entry.template());
+            assertEquals(BuzzCatalog.Severity.WARN, entry.severity());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar código duplicado")
+        void shouldRejectDuplicateCode() {
+            BuzzCatalog.register(0x7002, "DUP", "primeiro", BuzzCatalog.Severity.INFO);
+
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            BuzzCatalog.register(
+                                    0x7002, "DUP", "segundo", BuzzCatalog.Severity.INFO));
+            assertEquals("primeiro", BuzzCatalog.lookup(0x7002).template());
+        }
+
+        @Test
+        @DisplayName("Deve exigir severidade")
+        void shouldRequireSeverity() {
+            assertThrows(
+                    NullPointerException.class,
+                    () -> BuzzCatalog.register(0x7003, "NO_SEVERITY", "sem", null));
+            assertFalse(BuzzCatalog.contains(0x7003));
+        }
+
+        @Test
+        @DisplayName("Código desconhecido deve devolver nulo")
+        void unknownCodeShouldReturnNull() {
+            assertNull(BuzzCatalog.lookup(0x7FFF_FFF0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Internação")
+    class InternTests {
+
+        @Test
+        @DisplayName("Deve compartilhar a mesma instância de bee")
+        void shouldShareBeeInstance() {
+            String a = new String("INTERNED_BEE");
+            String b = new String("INTERNED_BEE");
+
+            assertSame(BuzzCatalog.intern(a), BuzzCatalog.intern(b));
+        }
+
+        @Test
+        @DisplayName("Registro deve usar o bee internado")
+        void registerShouldUseInternedBee() {
+            String canonical = BuzzCatalog.intern(new String("SHARED_BEE"));
+
+            BuzzCatalog.Entry entry =
+                    BuzzCatalog.register(
+                            0x7004, new String("SHARED_BEE"), "x", BuzzCatalog.Severity.ERROR);
+
+            assertSame(canonical, entry.bee());
+        }
+
+        @Test
+        @DisplayName("Deve aceitar bee nulo")
+        void shouldAcceptNullBee() {
+            assertNull(BuzzCatalog.intern(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Buzz.of")
+    class BuzzOfTests {
+
+        @Test
+        @DisplayName("Deve criar Buzz a partir do catálogo")
+        void shouldCreateBuzzFromCatalog() {
+            BuzzCatalog.register(
+                    0x7005,
+                    "CATALOG_NOT_FOUND",
+                    "Recurso não encontrado",
+                    BuzzCatalog.Severity.ERROR);
+
+            Buzz buzz = Buzz.of(0x7005);
+
+            assertEquals(0x7005, buzz.code());
+            assertSame(BuzzCatalog.lookup(0x7005).bee(), buzz.bee());
+            assertEquals("Recurso não encontrado", buzz.msg());
+            assertEquals(
+                    Buzz.format(0x7005, "CATALOG_NOT_FOUND", "Recurso não encontrado"),
+                    buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar código não registrado")
+        void shouldRejectUnregisteredCode() {
+            assertThrows(IllegalArgumentException.class, () -> Buzz.of(0x7FFF_FFF1));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@DisplayName("Testes para a injeção de falhas")
+class BuzzChaosTest {
+
+    @AfterEach
+    void tearDown() {
+        BuzzChaos.clear();
+    }
+
+    private static int failures(BuzzChaos.Point point, int calls) {
+        int failed = 0;
+        for (int i = 0; i < calls; i++) {
+            try {
+                point.hit();
+            } catch (Buzz buzz) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    @Nested
+    @DisplayName("Testes de Pontos")
+    class PointTests {
+
+        @Test
+        @DisplayName("Ponto sem regra não deve falhar")
+        void disabledPointShouldPass() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.off");
+
+            assertEquals(0, failures(point, 1000));
+            assertNull(point.poll());
+            assertNull(point.rule());
+            assertEquals("chaos.off (off)", point.toString());
+        }
+
+        @Test
+        @DisplayName("Mesmo nome deve devolver o mesmo ponto")
+        void sameNameShouldReturnSamePoint() {
+            assertSame(BuzzChaos.point("chaos.same"), BuzzChaos.point("chaos.same"));
+        }
+
+        @Test
+        @DisplayName("Ponto criado depois deve receber a regra configurada")
+        void laterPointShouldGetConfiguredRule() {
+            BuzzChaos.configure("chaos.later", BuzzChaos.Rule.everyNth(1, 0x1F4, "CHAOS", "x"));
+
+            assertEquals(10, failures(BuzzChaos.point("chaos.later"), 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Regras")
+    class RuleTests {
+
+        @Test
+        @DisplayName("A cada N deve falhar exatamente uma vez em N")
+        void everyNthShouldBeExact() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.nth");
+            BuzzChaos.configure("chaos.nth", BuzzChaos.Rule.everyNth(10, 0x1F4, "CHAOS", "x"));
+
+            assertEquals(100, failures(point, 1000));
+            assertEquals(100, point.injected());
+        }
+
+        @Test
+        @DisplayName("Probabilidade deve ficar próxima da configurada")
+        void probabilityShouldApproximateRate() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.p");
+            BuzzChaos.configure("chaos.p", BuzzChaos.Rule.probability(0.1, 0x1F4, "CHAOS", "x"));
+
+            int failed = failures(point, 20_000);
+
+            assertTrue(failed > 1600 && failed < 2400, "falhas: " + failed);
+        }
+
+        @Test
+        @DisplayName("Probabilidades extremas devem ser exatas")
+        void extremeProbabilitiesShouldBeExact() {
+            BuzzChaos.Point never = BuzzChaos.point("chaos.never");
+            BuzzChaos.Point always = BuzzChaos.point("chaos.always");
+            BuzzChaos.configure(
+                    Map.of(
+                            "chaos.never", BuzzChaos.Rule.probability(0, 1, "A", "a"),
+                            "chaos.always", BuzzChaos.Rule.probability(1, 1, "A", "a")));
+
+            assertEquals(0, failures(never, 1000));
+            assertEquals(1000, failures(always, 1000));
+        }
+
+        @Test
+        @DisplayName("Buzz injetado deve ser o compartilhado sem stack")
+        void injectedBuzzShouldBeCached() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.cached");
+            BuzzChaos.configure("chaos.cached", BuzzChaos.Rule.everyNth(1, 0x1F4, "CHAOS", "x"));
+
+            Buzz buzz = point.poll();
+
+            assertSame(Buzz.cached(0x1F4, "CHAOS", "x"), buzz);
+            assertEquals(0, buzz.getStackTrace().length);
+            assertSame(buzz, assertThrows(Buzz.class, point::hit));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar regras inválidas")
+        void shouldRejectInvalidRules() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzChaos.Rule.probability(1.5, 1, "A", "a"));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzChaos.Rule.probability(Double.NaN, 1, "A", "a"));
+            assertThrows(
+                    IllegalArgumentException.class, () -> BuzzChaos.Rule.everyNth(0, 1, "A", "a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Configuração")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Nova configuração deve substituir a anterior por inteiro")
+        void configureShouldReplaceSnapshot() {
+            BuzzChaos.Point a = BuzzChaos.point("chaos.a");
+            BuzzChaos.Point b = BuzzChaos.point("chaos.b");
+            BuzzChaos.Rule rule = BuzzChaos.Rule.everyNth(1, 1, "A", "a");
+            BuzzChaos.configure(Map.of("chaos.a", rule, "chaos.b", rule));
+
+            BuzzChaos.configure(Map.of("chaos.b", rule));
+
+            assertNull(a.rule());
+            assertSame(rule, b.rule());
+            assertEquals(Map.of("chaos.b", rule), BuzzChaos.rules());
+        }
+
+        @Test
+        @DisplayName("Remover a regra deve desligar o ponto")
+        void removingRuleShouldDisablePoint() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.remove");
+            BuzzChaos.configure("chaos.remove", BuzzChaos.Rule.everyNth(1, 1, "A", "a"));
+
+            BuzzChaos.configure("chaos.remove", null);
+
+            assertEquals(0, failures(point, 10));
+        }
+
+        @Test
+        @DisplayName("clear deve desligar todos os pontos")
+        void clearShouldDisableAll() {
+            BuzzChaos.Point point = BuzzChaos.point("chaos.clear");
+            BuzzChaos.configure("chaos.clear", BuzzChaos.Rule.everyNth(1, 1, "A", "a"));
+
+            BuzzChaos.clear();
+
+            assertTrue(BuzzChaos.rules().isEmpty());
+            assertNull(point.poll());
+        }
+    }
+}
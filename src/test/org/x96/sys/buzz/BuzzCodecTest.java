@@ -0,0 +1,225 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@DisplayName("Testes para o codec binário de Buzz")
+class BuzzCodecTest {
+
+    private static Buzz roundTrip(Buzz buzz, ByteBuffer buffer, int maxFrames) {
+        BuzzCodec.encode(buzz, buffer, maxFrames);
+        buffer.flip();
+        Buzz decoded = BuzzCodec.decode(buffer);
+        assertFalse(buffer.hasRemaining(), "decode deve consumir toda a mensagem");
+        return decoded;
+    }
+
+    @Nested
+    @DisplayName("Testes de Ida e Volta")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Deve preservar código, bee e mensagem em buffer heap")
+        void shouldRoundTripHeap() {
+            Buzz decoded =
+                    roundTrip(
+                            new Buzz(404, "NOT_FOUND", "Recurso não encontrado"),
+                            ByteBuffer.allocate(256),
+                            0);
+
+            assertEquals(404, decoded.code());
+            assertEquals("NOT_FOUND", decoded.bee());
+            assertEquals("Recurso não encontrado", decoded.msg());
+            assertEquals(0, decoded.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Deve preservar valores em buffer direto")
+        void shouldRoundTripDirect() {
+            String bee = "TEST_🚀_ÇÃO";
+            String msg = "Mensagem com acentos: ção, não, coração ❤️";
+
+            Buzz decoded =
+                    roundTrip(new Buzz(-1, bee, msg), ByteBuffer.allocateDirect(256), 0);
+
+            assertEquals(-1, decoded.code());
+            assertEquals(bee, decoded.bee());
+            assertEquals(msg, decoded.msg());
+        }
+
+        @Test
+        @DisplayName("Deve distinguir nulo de vazio")
+        void shouldDistinguishNullFromEmpty() {
+            Buzz decoded = roundTrip(new Buzz(0, null, ""), ByteBuffer.allocate(64), 0);
+
+            assertNull(decoded.bee());
+            assertEquals("", decoded.msg());
+        }
+
+        @Test
+        @DisplayName("Deve preservar a cadeia de causas")
+        void shouldRoundTripCauseChain() {
+            IllegalStateException root = new IllegalStateException("Estado inválido");
+            Buzz middle = new Buzz(500, "MIDDLE", "meio", root);
+            Buzz top = new Buzz(400, "TOP", "topo", middle);
+
+            Buzz decoded = roundTrip(top, ByteBuffer.allocate(512), 0);
+
+            Buzz decodedMiddle = (Buzz) decoded.getCause();
+            assertEquals(500, decodedMiddle.code());
+            assertEquals("MIDDLE", decodedMiddle.bee());
+            BuzzCodec.RemoteCause remote = (BuzzCodec.RemoteCause) decodedMiddle.getCause();
+            assertEquals(IllegalStateException.class.getName(), remote.className());
+            assertEquals("Estado inválido", remote.getMessage());
+            assertEquals(
+                    IllegalStateException.class.getName() + ": Estado inválido",
+                    remote.toString());
+            assertNull(remote.getCause());
+        }
+
+        @Test
+        @DisplayName("Deve truncar o stack trace")
+        void shouldTruncateStackTrace() {
+            Buzz buzz = new Buzz(1, "STACK", "pilha");
+            StackTraceElement[] original = buzz.getStackTrace();
+
+            Buzz decoded = roundTrip(buzz, ByteBuffer.allocateDirect(4096), 2);
+
+            StackTraceElement[] frames = decoded.getStackTrace();
+            assertEquals(2, frames.length);
+            for (int i = 0; i < frames.length; i++) {
+                assertEquals(original[i].getClassName(), frames[i].getClassName());
+                assertEquals(original[i].getMethodName(), frames[i].getMethodName());
+                assertEquals(original[i].getFileName(), frames[i].getFileName());
+                assertEquals(original[i].getLineNumber(), frames[i].getLineNumber());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve cortar cadeias cíclicas")
+        void shouldCutCyclicChains() {
+            Exception loop = new Exception("loop");
+            loop.initCause(new Exception("inner", loop));
+
+            Buzz decoded =
+                    roundTrip(new Buzz(2, "TOP", "topo", loop), ByteBuffer.allocate(4096), 0);
+
+            int depth = 0;
+            for (Throwable t = decoded; t != null; t = t.getCause()) {
+                depth++;
+            }
+            assertEquals(BuzzCodec.MAX_CAUSES, depth);
+        }
+
+        @Test
+        @DisplayName("Buzz decodificado não deve herdar contexto nem ser contado")
+        void decodedShouldNotLookLocal() {
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            BuzzCodec.encode(Buzz.stackless(0x6A, "REMOTE", "remoto"), buffer);
+            buffer.flip();
+            BuzzCounters.reset();
+            BuzzCounters.enable();
+            try {
+                Buzz decoded =
+                        BuzzContext.of("r-1", "acme", "t-9").call(() -> BuzzCodec.decode(buffer));
+
+                assertNull(decoded.context());
+                assertEquals(0, BuzzCounters.count(0x6A));
+            } finally {
+                BuzzCounters.disable();
+                BuzzCounters.reset();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Formato")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Varint deve ocupar poucos bytes para códigos pequenos")
+        void varintShouldBeCompact() {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            BuzzCodec.putVarint(buffer, 0x7F);
+            assertEquals(1, buffer.position());
+
+            buffer.clear();
+            BuzzCodec.putVarint(buffer, 404);
+            assertEquals(2, buffer.position());
+
+            buffer.clear();
+            BuzzCodec.putVarint(buffer, -1);
+            assertEquals(5, buffer.position());
+            buffer.flip();
+            assertEquals(-1, BuzzCodec.getVarint(buffer));
+        }
+
+        @Test
+        @DisplayName("UTF-8 deve coincidir com getBytes")
+        void utf8ShouldMatchGetBytes() {
+            String[] samples = {"", "abc", "ção", "🐝🌵", "\uD800x", "x\uDC00", "￿"};
+            for (String sample : samples) {
+                byte[] expected = sample.getBytes(StandardCharsets.UTF_8);
+                ByteBuffer buffer = ByteBuffer.allocate(32);
+
+                int end = Utf8.put(buffer, 0, sample);
+
+                assertEquals(expected.length, Utf8.length(sample));
+                assertEquals(expected.length, end);
+                byte[] actual = new byte[expected.length];
+                buffer.get(actual);
+                assertArrayEquals(expected, actual);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve estourar o buffer sem escrever a string pela metade")
+        void shouldOverflowSmallBuffer() {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+
+            assertThrows(
+                    java.nio.BufferOverflowException.class,
+                    () -> BuzzCodec.encode(new Buzz(1, "BEE_TOO_LONG", "msg"), buffer));
+        }
+
+        @Test
+        @DisplayName("Deve ser muito menor que a serialização Java")
+        void shouldBeMuchSmallerThanJavaSerialization() throws IOException {
+            Buzz buzz = new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+            ByteBuffer buffer = ByteBuffer.allocate(256);
+            BuzzCodec.encode(buzz, buffer);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(buzz);
+            }
+
+            assertTrue(buffer.position() * 10 < bytes.size());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar versão desconhecida")
+        void shouldRejectUnknownVersion() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[] {99, 0});
+
+            assertThrows(IllegalArgumentException.class, () -> BuzzCodec.decode(buffer));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar mensagem sem Buzz")
+        void shouldRejectEmptyMessage() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[] {BuzzCodec.VERSION, 0});
+
+            assertThrows(IllegalArgumentException.class, () -> BuzzCodec.decode(buffer));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+@DisplayName("Testes para o contexto de requisição")
+class BuzzContextTest {
+
+    private static final BuzzContext REQUEST = BuzzContext.of("r-1", "acme", "t-9");
+
+    @Nested
+    @DisplayName("Testes de Vínculo")
+    class BindingTests {
+
+        @Test
+        @DisplayName("Sem vínculo não deve haver contexto")
+        void unboundShouldBeNull() {
+            assertNull(BuzzContext.current());
+            assertNull(new Buzz(1, "A", "a").context());
+        }
+
+        @Test
+        @DisplayName("Contexto deve valer apenas dentro do escopo")
+        void contextShouldBeScoped() {
+            REQUEST.run(() -> assertSame(REQUEST, BuzzContext.current()));
+
+            assertNull(BuzzContext.current());
+        }
+
+        @Test
+        @DisplayName("Escopos aninhados devem restaurar o anterior")
+        void nestedScopesShouldRestore() {
+            BuzzContext inner = BuzzContext.of("r-2", "acme", "t-10");
+
+            REQUEST.run(
+                    () -> {
+                        inner.run(() -> assertSame(inner, BuzzContext.current()));
+                        assertSame(REQUEST, BuzzContext.current());
+                    });
+        }
+
+        @Test
+        @DisplayName("Escopo deve ser desfeito mesmo com exceção")
+        void scopeShouldUnbindOnException() {
+            assertThrows(
+                    Buzz.class,
+                    () ->
+                            REQUEST.run(
+                                    () -> {
+                                        throw new Buzz(1, "A", "a");
+                                    }));
+
+            assertNull(BuzzContext.current());
+        }
+
+        @Test
+        @DisplayName("Novas threads não devem herdar o contexto sem wrap")
+        void threadsShouldNotInherit() throws InterruptedException {
+            AtomicReference<BuzzContext> plain = new AtomicReference<>(REQUEST);
+            AtomicReference<BuzzContext> wrapped = new AtomicReference<>();
+
+            REQUEST.run(
+                    () -> {
+                        Runnable child = () -> wrapped.set(BuzzContext.current());
+                        Thread a = new Thread(() -> plain.set(BuzzContext.current()));
+                        Thread b = new Thread(REQUEST.wrap(child));
+                        a.start();
+                        b.start();
+                        try {
+                            a.join();
+                            b.join();
+                        } catch (InterruptedException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+
+            assertNull(plain.get());
+            assertSame(REQUEST, wrapped.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Captura")
+    class CaptureTests {
+
+        @Test
+        @DisplayName("Buzz deve capturar o contexto na construção")
+        void buzzShouldCaptureContext() {
+            Buzz buzz = REQUEST.call(() -> new Buzz(404, "NOT_FOUND", "nada"));
+            Buzz templated = REQUEST.call(() -> Buzz.of(404, "NOT_FOUND", "id {}", 1));
+
+            assertSame(REQUEST, buzz.context());
+            assertSame(REQUEST, templated.context());
+            assertEquals("r-1", buzz.context().requestId());
+            assertEquals("acme", buzz.context().tenant());
+            assertEquals("t-9", buzz.context().traceId());
+        }
+
+        @Test
+        @DisplayName("Buzz compartilhado não deve carregar contexto")
+        void cachedShouldNotCarryContext() {
+            Buzz cached = REQUEST.call(() -> Buzz.cached(0xC0, "SHARED", "compartilhado"));
+
+            assertNull(cached.context());
+        }
+
+        @Test
+        @DisplayName("Contexto deve ter igualdade por valor")
+        void contextShouldHaveValueEquality() {
+            BuzzContext same = BuzzContext.of("r-1", "acme", "t-9");
+
+            assertEquals(REQUEST, same);
+            assertEquals(REQUEST.hashCode(), same.hashCode());
+            assertNotEquals(REQUEST, BuzzContext.of("r-1", "acme", null));
+            assertEquals("request=r-1 tenant=acme trace=t-9", REQUEST.toString());
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Testes para os contadores por código")
+class BuzzCountersTest {
+
+    @AfterEach
+    void tearDown() {
+        BuzzCounters.disable();
+        BuzzCounters.reset();
+    }
+
+    @Nested
+    @DisplayName("Testes de Ativação")
+    class EnableTests {
+
+        @Test
+        @DisplayName("Deve vir desligado e não contar")
+        void shouldBeOffByDefault() {
+            BuzzCounters.disable();
+            BuzzCounters.reset();
+
+            new Buzz(0x6001, "OFF", "desligado");
+
+            assertFalse(BuzzCounters.enabled());
+            assertEquals(0, BuzzCounters.count(0x6001));
+        }
+
+        @Test
+        @DisplayName("Deve contar construções quando ligado")
+        void shouldCountWhenEnabled() {
+            BuzzCounters.reset();
+            BuzzCounters.enable();
+
+            new Buzz(0x6002, "ON", "ligado");
+            new Buzz(0x6002, "ON", "ligado", new IllegalStateException());
+            Buzz.stackless(0x6002, "ON", "ligado");
+
+            assertEquals(3, BuzzCounters.count(0x6002));
+        }
+
+        @Test
+        @DisplayName("Deve contar cada uso de Buzz.cached uma vez")
+        void shouldCountCachedOnce() {
+            BuzzCounters.reset();
+            BuzzCounters.enable();
+
+            for (int i = 0; i < 5; i++) {
+                Buzz.cached(0x6003, "CACHED", "cache");
+            }
+
+            assertEquals(5, BuzzCounters.count(0x6003));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Snapshot")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Snapshot deve vir ordenado por código")
+        void snapshotShouldBeSorted() {
+            CodeCounters counters = new CodeCounters(16);
+            counters.increment(30);
+            counters.increment(-5);
+            counters.increment(10);
+            counters.increment(10);
+
+            BuzzCounters.Snapshot snapshot = counters.snapshot(false);
+
+            assertArrayEquals(new int[] {-5, 10, 30}, snapshot.codes());
+            assertArrayEquals(new long[] {1, 2, 1}, snapshot.counts());
+            assertEquals(2, snapshot.count(10));
+            assertEquals(0, snapshot.count(11));
+            assertEquals(4, snapshot.total());
+        }
+
+        @Test
+        @DisplayName("Drenar deve zerar os contadores")
+        void drainShouldReset() {
+            CodeCounters counters = new CodeCounters(16);
+            counters.increment(1);
+
+            assertEquals(1, counters.snapshot(true).count(1));
+            assertEquals(0, counters.count(1));
+            assertEquals(0, counters.snapshot(false).codes().length);
+        }
+
+        @Test
+        @DisplayName("Códigos além da capacidade devem ir para o overflow")
+        void extraCodesShouldOverflow() {
+            CodeCounters counters = new CodeCounters(4);
+            for (int code = 0; code < 10; code++) {
+                counters.increment(code);
+            }
+
+            BuzzCounters.Snapshot snapshot = counters.snapshot(false);
+
+            assertEquals(4, snapshot.codes().length);
+            assertEquals(6, snapshot.overflow());
+            assertEquals(10, snapshot.total());
+        }
+
+        @Test
+        @DisplayName("Tabela cheia deve manter a capacidade e ordenar os códigos")
+        void fullTableShouldKeepCapacityAndOrder() {
+            CodeCounters counters = new CodeCounters(BuzzCounters.CAPACITY);
+            for (int code = 0; code < 100_000; code++) {
+                counters.increment(code * 0x9E3779B1);
+            }
+
+            BuzzCounters.Snapshot snapshot = counters.snapshot(false);
+
+            int[] codes = snapshot.codes();
+            assertTrue(codes.length > BuzzCounters.CAPACITY * 99 / 100);
+            assertTrue(codes.length <= BuzzCounters.CAPACITY);
+            assertEquals(100_000, snapshot.total());
+            for (int i = 1; i < codes.length; i++) {
+                assertTrue(codes[i - 1] < codes[i]);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Não deve perder incrementos entre threads")
+        void shouldNotLoseIncrements() throws Exception {
+            CodeCounters counters = new CodeCounters(64);
+            int threads = 8;
+            int perThread = 20_000;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    futures[t] =
+                            pool.submit(
+                                    () -> {
+                                        start.await();
+                                        for (int i = 0; i < perThread; i++) {
+                                            counters.increment(i % 16);
+                                        }
+                                        return null;
+                                    });
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            BuzzCounters.Snapshot snapshot = counters.snapshot(false);
+            assertEquals(16, snapshot.codes().length);
+            assertEquals((long) threads * perThread, snapshot.total());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@DisplayName("Testes para os eventos JFR")
+class BuzzEventTest {
+
+    private static final String NAME = "org.x96.sys.buzz.Buzz";
+
+    @AfterEach
+    void tearDown() {
+        BuzzEvent.unthrottle();
+    }
+
+    private static List<RecordedEvent> record(int code, Runnable body) throws Exception {
+        Path file = Files.createTempFile("buzz-event", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(NAME);
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(NAME))
+                    .filter(e -> e.getInt("code") == code)
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Emissão")
+    class EmitTests {
+
+        @Test
+        @DisplayName("Deve registrar code, bee e causa")
+        void shouldRecordFields() throws Exception {
+            List<RecordedEvent> events =
+                    record(
+                            0xE1,
+                            () ->
+                                    new Buzz(
+                                            0xE1,
+                                            "EVENT",
+                                            "evento",
+                                            new IllegalStateException()));
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("EVENT", event.getString("bee"));
+            assertEquals(6, event.getInt("messageLength"));
+            assertEquals(
+                    IllegalStateException.class.getName(),
+                    event.getClass("causeType").getName());
+            assertTrue(event.getBoolean("stackCaptured"));
+        }
+
+        @Test
+        @DisplayName("Buzz sem stack deve ser marcado")
+        void stacklessShouldBeFlagged() throws Exception {
+            List<RecordedEvent> events = record(0xE2, () -> Buzz.stackless(0xE2, null, null));
+
+            assertEquals(1, events.size());
+            assertFalse(events.get(0).getBoolean("stackCaptured"));
+            assertEquals(0, events.get(0).getInt("messageLength"));
+            assertNull(events.get(0).getClass("causeType"));
+        }
+
+        @Test
+        @DisplayName("Sem gravação não deve haver evento")
+        void disabledShouldEmitNothing() {
+            assertFalse(new BuzzEvent().isEnabled());
+            assertDoesNotThrow(() -> new Buzz(0xE3, "OFF", "desligado"));
+        }
+
+        @Test
+        @DisplayName("Buzz só deve tocar o JFR durante uma gravação")
+        void flagShouldFollowRecordings() {
+            new Buzz(0xE3, "OFF", "desligado");
+            assertFalse(BuzzRecorder.recording);
+
+            try (Recording recording = new Recording()) {
+                recording.start();
+                assertTrue(BuzzRecorder.recording);
+                recording.stop();
+            }
+
+            assertFalse(BuzzRecorder.recording);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Limitação")
+    class ThrottleTests {
+
+        @Test
+        @DisplayName("Limite por código deve ser respeitado")
+        void perCodeLimitShouldHold() throws Exception {
+            BuzzEvent.throttle(0xE4, 3);
+
+            List<RecordedEvent> limited =
+                    record(
+                            0xE4,
+                            () -> {
+                                for (int i = 0; i < 100; i++) {
+                                    Buzz.stackless(0xE4, "HOT", "quente");
+                                }
+                            });
+            List<RecordedEvent> free =
+                    record(
+                            0xE5,
+                            () -> {
+                                for (int i = 0; i < 100; i++) {
+                                    Buzz.stackless(0xE5, "FREE", "livre");
+                                }
+                            });
+
+            assertTrue(limited.size() >= 3 && limited.size() <= 6, "eventos: " + limited.size());
+            assertEquals(100, free.size());
+        }
+
+        @Test
+        @DisplayName("Limite padrão deve valer para cada código separadamente")
+        void defaultLimitShouldApplyPerCode() throws Exception {
+            BuzzEvent.throttle(2);
+
+            List<RecordedEvent> first =
+                    record(
+                            0xE6,
+                            () -> {
+                                for (int i = 0; i < 50; i++) {
+                                    Buzz.stackless(0xE6, "A", "a");
+                                    Buzz.stackless(0xE7, "B", "b");
+                                }
+                            });
+
+            assertTrue(first.size() >= 2 && first.size() <= 4, "eventos: " + first.size());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar limites inválidos")
+        void shouldRejectInvalidLimits() {
+            assertThrows(IllegalArgumentException.class, () -> BuzzEvent.throttle(0));
+            assertThrows(IllegalArgumentException.class, () -> BuzzEvent.throttle(1, -1));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@DisplayName("Testes para o BuzzJournal mapeado em memória")
+class BuzzJournalTest {
+
+    private static final int SMALL = BuzzJournal.DATA + 4096;
+
+    private static Path tempDir() throws Exception {
+        Path dir = Files.createTempDirectory("buzz-journal");
+        dir.toFile().deleteOnExit();
+        return dir;
+    }
+
+    private static List<BuzzJournal.Entry> all(Path dir) throws Exception {
+        List<BuzzJournal.Entry> entries = new ArrayList<>();
+        BuzzJournal.forEach(dir, entries::add);
+        return entries;
+    }
+
+    private static long segments(Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Escrita e Leitura")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Deve gravar e ler todos os campos")
+        void shouldWriteAndReadFields() throws Exception {
+            Path dir = tempDir();
+            long before = System.currentTimeMillis();
+            Buzz buzz = new Buzz(404, "NOT_FOUND", "Recurso não encontrado 🐝");
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, true)) {
+                journal.append(buzz);
+                journal.append(Buzz.stackless(-1, null, null));
+            }
+
+            List<BuzzJournal.Entry> entries = all(dir);
+            assertEquals(2, entries.size());
+            BuzzJournal.Entry first = entries.get(0);
+            assertEquals(404, first.code());
+            assertEquals("NOT_FOUND", first.bee());
+            assertEquals("Recurso não encontrado 🐝", first.msg());
+            assertEquals(Thread.currentThread().getName(), first.thread());
+            assertEquals((int) buzz.fingerprint(), first.stackHash());
+            assertTrue(first.timestamp() >= before);
+            BuzzJournal.Entry second = entries.get(1);
+            assertEquals(-1, second.code());
+            assertNull(second.bee());
+            assertNull(second.msg());
+        }
+
+        @Test
+        @DisplayName("Deve rolar para novos segmentos")
+        void shouldRollSegments() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                for (int i = 0; i < 500; i++) {
+                    journal.append(Buzz.stackless(i % 3, "ROLL", "registro " + i));
+                }
+            }
+
+            assertTrue(segments(dir) > 1);
+            assertEquals(500, all(dir).size());
+        }
+
+        @Test
+        @DisplayName("Deve continuar em um novo segmento ao reabrir")
+        void shouldStartNewSegmentOnReopen() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                journal.append(Buzz.stackless(1, "A", "primeiro"));
+            }
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                journal.append(Buzz.stackless(1, "B", "segundo"));
+            }
+
+            assertEquals(2, segments(dir));
+            assertEquals(2, BuzzJournal.read(dir, 1, 0).size());
+        }
+
+        @Test
+        @DisplayName("Deve recusar Buzz maior que o segmento")
+        void shouldRejectOversizedBuzz() throws Exception {
+            try (BuzzJournal journal = BuzzJournal.open(tempDir(), SMALL, false)) {
+                assertThrows(
+                        IllegalArgumentException.class,
+                        () -> journal.append(Buzz.stackless(1, "BIG", "x".repeat(SMALL))));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve recusar escrita após fechar")
+        void shouldRejectAfterClose() throws Exception {
+            BuzzJournal journal = BuzzJournal.open(tempDir(), SMALL, false);
+            journal.close();
+
+            assertThrows(
+                    IllegalStateException.class,
+                    () -> journal.append(Buzz.stackless(1, "CLOSED", "fechado")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes do Índice por Código")
+    class IndexTests {
+
+        @Test
+        @DisplayName("Deve encontrar apenas o código pedido")
+        void shouldReadOnlyRequestedCode() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                for (int i = 0; i < 300; i++) {
+                    journal.append(Buzz.stackless(i % 5 == 0 ? 0x194 : i, "IDX", "n" + i));
+                }
+            }
+
+            List<BuzzJournal.Entry> entries = BuzzJournal.read(dir, 0x194, 0);
+            assertEquals(60, entries.size());
+            for (BuzzJournal.Entry entry : entries) {
+                assertEquals(0x194, entry.code());
+            }
+            assertTrue(BuzzJournal.read(dir, 0x7777, 0).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Deve filtrar pelo instante inicial")
+        void shouldFilterBySince() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                journal.append(Buzz.stackless(7, "OLD", "antigo"));
+                long since = System.currentTimeMillis() + 1;
+                while (System.currentTimeMillis() < since) {
+                    Thread.onSpinWait();
+                }
+                journal.append(Buzz.stackless(7, "NEW", "novo"));
+
+                List<BuzzJournal.Entry> entries = BuzzJournal.read(dir, 7, since);
+                assertEquals(1, entries.size());
+                assertEquals("NEW", entries.get(0).bee());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve recorrer à varredura quando o índice enche")
+        void shouldScanWhenIndexIsFull() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, 1 << 20, false)) {
+                for (int code = 0; code < BuzzJournal.SLOTS + 10; code++) {
+                    journal.append(Buzz.stackless(code, "FULL", "cheio"));
+                }
+            }
+
+            for (int code = 0; code < BuzzJournal.SLOTS + 10; code++) {
+                assertEquals(1, BuzzJournal.read(dir, code, 0).size(), "código " + code);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Recuperação")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Registro não confirmado deve ser ignorado")
+        void uncommittedRecordShouldBeSkipped() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                journal.append(Buzz.stackless(9, "LOST", "perdido"));
+                journal.append(Buzz.stackless(9, "KEPT", "mantido"));
+            }
+            Path segment;
+            try (Stream<Path> files = Files.list(dir)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            try (FileChannel channel =
+                    FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer b = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                b.order(ByteOrder.LITTLE_ENDIAN).putInt(BuzzJournal.DATA + 4, 0);
+                b.force();
+            }
+
+            List<BuzzJournal.Entry> entries = BuzzJournal.read(dir, 9, 0);
+            assertEquals(1, entries.size());
+            assertEquals("KEPT", entries.get(0).bee());
+            assertEquals(1, all(dir).size());
+        }
+
+        @Test
+        @DisplayName("Reserva interrompida não deve esconder os registros seguintes")
+        void tornReservationShouldNotHideLaterRecords() throws Exception {
+            Path dir = tempDir();
+            try (BuzzJournal journal = BuzzJournal.open(dir, SMALL, false)) {
+                journal.append(Buzz.stackless(8, "TORN", "interrompido"));
+                journal.append(Buzz.stackless(9, "KEPT", "primeiro"));
+                journal.append(Buzz.stackless(9, "KEPT", "segundo"));
+            }
+            Path segment;
+            try (Stream<Path> files = Files.list(dir)) {
+                segment = files.findFirst().orElseThrow();
+            }
+            try (FileChannel channel =
+                    FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer b = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                b.order(ByteOrder.LITTLE_ENDIAN);
+                int length = b.getInt(BuzzJournal.DATA);
+                for (int i = 0; i < length; i++) {
+                    b.put(BuzzJournal.DATA + i, (byte) 0);
+                }
+                b.force();
+            }
+
+            List<BuzzJournal.Entry> entries = all(dir);
+            assertEquals(2, entries.size());
+            assertEquals("primeiro", entries.get(0).msg());
+            assertEquals("segundo", entries.get(1).msg());
+            assertEquals(2, BuzzJournal.read(dir, 9, 0).size());
+        }
+
+        @Test
+        @DisplayName("Arquivos estranhos devem ser ignorados")
+        void foreignFilesShouldBeIgnored() throws Exception {
+            Path dir = tempDir();
+            Files.write(dir.resolve("buzz-0000000000000000.seg"), new byte[] {1, 2, 3});
+            Files.write(dir.resolve("notes.txt"), new byte[] {1, 2, 3});
+
+            assertTrue(all(dir).isEmpty());
+            assertTrue(BuzzJournal.read(dir, 1, 0).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Não deve perder registros entre threads")
+        void shouldNotLoseRecords() throws Exception {
+            Path dir = tempDir();
+            int threads = 8;
+            int perThread = 2_000;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            try (BuzzJournal journal = BuzzJournal.open(dir, 64 * 1024, false)) {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int id = t;
+                    futures[t] =
+                            pool.submit(
+                                    () -> {
+                                        start.await();
+                                        for (int i = 0; i < perThread; i++) {
+                                            journal.append(
+                                                    Buzz.stackless(i % 4, "MT" + id, "n" + i));
+                                        }
+                                        return null;
+                                    });
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+
+            assertEquals(threads * perThread, all(dir).size());
+            long total = 0;
+            for (int code = 0; code < 4; code++) {
+                total += BuzzJournal.read(dir, code, 0).size();
+            }
+            assertEquals(threads * perThread, total);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@DisplayName("Testes para a renderização JSON")
+class BuzzJsonTest {
+
+    private static String json(Buzz buzz, int maxFrames) {
+        ByteBuffer out = ByteBuffer.allocate(64 * 1024);
+        BuzzJson.write(buzz, out, maxFrames);
+        return new String(out.array(), 0, out.position(), StandardCharsets.UTF_8);
+    }
+
+    private static Buzz withFrames(Buzz buzz) {
+        buzz.setStackTrace(
+                new StackTraceElement[] {
+                    new StackTraceElement("a.B", "run", "B.java", 12),
+                    new StackTraceElement("a.C", "main", null, -2)
+                });
+        return buzz;
+    }
+
+    @Nested
+    @DisplayName("Testes de Formato")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Deve renderizar os campos na ordem fixa")
+        void shouldRenderFieldsInOrder() {
+            Buzz buzz = Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado");
+
+            assertEquals(
+                    "{\"code\":404,\"bee\":\"NOT_FOUND\",\"msg\":\"Recurso não encontrado\","
+                            + "\"frames\":[]}",
+                    json(buzz, 8));
+        }
+
+        @Test
+        @DisplayName("Deve renderizar nulos e códigos negativos")
+        void shouldRenderNullsAndNegativeCodes() {
+            assertEquals(
+                    "{\"code\":-2147483648,\"bee\":null,\"msg\":null,\"frames\":[]}",
+                    json(Buzz.stackless(Integer.MIN_VALUE, null, null), 8));
+        }
+
+        @Test
+        @DisplayName("Deve renderizar frames até o limite")
+        void shouldRenderFramesUpToLimit() {
+            Buzz buzz = withFrames(new Buzz(1, "A", "a"));
+
+            assertEquals(
+                    "{\"code\":1,\"bee\":\"A\",\"msg\":\"a\",\"frames\":[{\"class\":\"a.B\","
+                            + "\"method\":\"run\",\"file\":\"B.java\",\"line\":12},"
+                            + "{\"class\":\"a.C\",\"method\":\"main\",\"file\":null,"
+                            + "\"line\":-2}]}",
+                    json(buzz, Integer.MAX_VALUE));
+            assertTrue(json(buzz, 1).endsWith("\"line\":12}]}"));
+            assertTrue(json(buzz, 0).endsWith("\"frames\":[]}"));
+        }
+
+        @Test
+        @DisplayName("Deve renderizar contexto e cadeia de causas")
+        void shouldRenderContextAndCauses() {
+            IllegalStateException root = new IllegalStateException("raiz");
+            root.setStackTrace(new StackTraceElement[0]);
+            Buzz inner = Buzz.stackless(2, "INNER", "dentro", root);
+            Buzz outer =
+                    BuzzContext.of("r-1", "acme", null)
+                            .call(() -> Buzz.stackless(1, "OUTER", "fora", inner));
+
+            assertEquals(
+                    "{\"code\":1,\"bee\":\"OUTER\",\"msg\":\"fora\",\"context\":{\"request\":"
+                            + "\"r-1\",\"tenant\":\"acme\",\"trace\":null},\"frames\":[],"
+                            + "\"causes\":[{\"code\":2,\"bee\":\"INNER\",\"msg\":\"dentro\","
+                            + "\"frames\":[]},{\"class\":\"java.lang.IllegalStateException\","
+                            + "\"msg\":\"raiz\",\"frames\":[]}]}",
+                    json(outer, 8));
+        }
+
+        @Test
+        @DisplayName("Deve cortar causas cíclicas")
+        void shouldCutCyclicCauses() {
+            IllegalStateException a = new IllegalStateException("a");
+            Buzz b = Buzz.stackless(2, "B", "b", a);
+            a.initCause(b);
+
+            String text = json(b, 0);
+
+            int links = text.split("\"msg\"", -1).length - 1;
+            assertEquals(BuzzCodec.MAX_CAUSES, links);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Escape")
+    class EscapeTests {
+
+        @Test
+        @DisplayName("Deve escapar aspas, barras e controles")
+        void shouldEscapeSpecialCharacters() {
+            String text = json(Buzz.stackless(1, "Q\"B", "a\\b\n\t\r\b\f\u0001"), 0);
+
+            assertTrue(
+                    text.contains("\"bee\":\"Q\\\"B\",\"msg\":\"a\\\\b\\n\\t\\r\\b\\f\\u0001\""),
+                    text);
+        }
+
+        @Test
+        @DisplayName("Deve codificar UTF-8 igual ao getBytes")
+        void shouldEncodeUtf8LikeGetBytes() {
+            String msg = "ção 中文 🐝 fim";
+            ByteBuffer out = ByteBuffer.allocate(256);
+
+            BuzzJson.write(Buzz.stackless(1, null, msg), out, 0);
+
+            String expected = "{\"code\":1,\"bee\":null,\"msg\":\"" + msg + "\",\"frames\":[]}";
+            assertArrayEquals(
+                    expected.getBytes(StandardCharsets.UTF_8),
+                    java.util.Arrays.copyOf(out.array(), out.position()));
+        }
+
+        @Test
+        @DisplayName("Surrogate isolado deve virar interrogação")
+        void loneSurrogateShouldBecomeQuestionMark() {
+            String text = json(Buzz.stackless(1, null, "x\uD800y"), 0);
+
+            assertTrue(text.contains("\"msg\":\"x?y\""), text);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Destino")
+    class TargetTests {
+
+        @Test
+        @DisplayName("Buffer cheio deve lançar BufferOverflowException")
+        void fullBufferShouldOverflow() {
+            ByteBuffer small = ByteBuffer.allocate(16);
+
+            assertThrows(
+                    BufferOverflowException.class,
+                    () -> BuzzJson.write(Buzz.stackless(1, "A", "mensagem longa"), small));
+        }
+
+        @Test
+        @DisplayName("Buffer direto deve produzir os mesmos bytes")
+        void directBufferShouldMatchHeap() {
+            Buzz buzz = withFrames(new Buzz(7, "DIRECT", "direto ✓"));
+            ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+
+            BuzzJson.write(buzz, direct);
+
+            byte[] bytes = new byte[direct.flip().remaining()];
+            direct.get(bytes);
+            assertEquals(json(buzz, Integer.MAX_VALUE), new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Stream com buffer pequeno deve produzir os mesmos bytes")
+        void smallStreamBufferShouldMatch() throws IOException {
+            Buzz first = withFrames(new Buzz(1, "STREAM", "primeiro \"citado\" 🐝"));
+            Buzz second = Buzz.stackless(2, "STREAM", "segundo");
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+            BuzzJson json = BuzzJson.to(bytes, 64);
+            json.write(first);
+            json.write(second);
+            json.flush();
+
+            assertEquals(
+                    json(first, Integer.MAX_VALUE) + "\n" + json(second, Integer.MAX_VALUE) + "\n",
+                    bytes.toString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar argumentos inválidos")
+        void shouldValidateArguments() {
+            assertThrows(NullPointerException.class, () -> BuzzJson.to(null));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzJson.to(new ByteArrayOutputStream(), 8));
+            assertThrows(
+                    NullPointerException.class,
+                    () -> BuzzJson.write(null, ByteBuffer.allocate(64)));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+@DisplayName("Testes para BuzzMatcher")
+class BuzzMatcherTest {
+
+    enum Action {
+        RETRY,
+        DROP,
+        ESCALATE
+    }
+
+    @Nested
+    @DisplayName("Testes de Regras")
+    class RuleTests {
+
+        private final BuzzMatcher<Action> matcher =
+                BuzzMatcher.<Action>builder()
+                        .code(0x194, Action.DROP)
+                        .codes(0x500, 0x5FF, Action.RETRY)
+                        .bee("TIMEOUT", Action.RETRY)
+                        .rule(0x100, 0x1FF, "AUTH", Action.ESCALATE)
+                        .codes(0x100, 0x1FF, Action.DROP)
+                        .build(Action.ESCALATE);
+
+        @Test
+        @DisplayName("Deve casar código exato")
+        void shouldMatchExactCode() {
+            assertEquals(Action.DROP, matcher.match(0x194, "NOT_FOUND"));
+            assertEquals(Action.DROP, matcher.match(new Buzz(0x194, "NOT_FOUND", "nada")));
+        }
+
+        @Test
+        @DisplayName("Deve casar faixas inclusivas")
+        void shouldMatchInclusiveRanges() {
+            assertEquals(Action.RETRY, matcher.match(0x500, "X"));
+            assertEquals(Action.RETRY, matcher.match(0x5FF, "X"));
+            assertEquals(Action.ESCALATE, matcher.match(0x600, "X"));
+            assertEquals(Action.ESCALATE, matcher.match(0x4FF, "X"));
+        }
+
+        @Test
+        @DisplayName("Deve casar bee em qualquer código")
+        void shouldMatchBeeAnywhere() {
+            assertEquals(Action.RETRY, matcher.match(42, "TIMEOUT"));
+            assertEquals(Action.RETRY, matcher.match(Integer.MIN_VALUE, new String("TIMEOUT")));
+        }
+
+        @Test
+        @DisplayName("Primeira regra que casa deve vencer")
+        void firstMatchShouldWin() {
+            assertEquals(Action.ESCALATE, matcher.match(0x150, "AUTH"));
+            assertEquals(Action.DROP, matcher.match(0x150, "OTHER"));
+            assertEquals(Action.DROP, matcher.match(0x194, "TIMEOUT"));
+        }
+
+        @Test
+        @DisplayName("Sem regra deve devolver o padrão")
+        void noRuleShouldReturnOtherwise() {
+            assertEquals(Action.ESCALATE, matcher.match(7, null));
+            assertEquals(Action.ESCALATE, matcher.match(7, "UNKNOWN"));
+            assertEquals(5, matcher.rules());
+        }
+
+        @Test
+        @DisplayName("Deve aceitar os extremos de int")
+        void shouldHandleIntBounds() {
+            BuzzMatcher<Action> bounds =
+                    BuzzMatcher.<Action>builder()
+                            .codes(Integer.MAX_VALUE - 1, Integer.MAX_VALUE, Action.DROP)
+                            .code(Integer.MIN_VALUE, Action.RETRY)
+                            .build(Action.ESCALATE);
+
+            assertEquals(Action.DROP, bounds.match(Integer.MAX_VALUE, "X"));
+            assertEquals(Action.RETRY, bounds.match(Integer.MIN_VALUE, "X"));
+            assertEquals(Action.ESCALATE, bounds.match(0, "X"));
+        }
+
+        @Test
+        @DisplayName("Sem regras deve sempre devolver o padrão")
+        void emptyShouldReturnOtherwise() {
+            BuzzMatcher<Action> empty = BuzzMatcher.<Action>builder().build(Action.DROP);
+
+            assertEquals(Action.DROP, empty.match(1, "A"));
+            assertEquals(Action.DROP, empty.match(1, null));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar regras inválidas")
+        void shouldRejectInvalidRules() {
+            BuzzMatcher.Builder<Action> builder = BuzzMatcher.builder();
+
+            assertThrows(IllegalArgumentException.class, () -> builder.codes(2, 1, Action.DROP));
+            assertThrows(NullPointerException.class, () -> builder.code(1, null));
+            assertThrows(NullPointerException.class, () -> builder.bee(null, Action.DROP));
+            assertThrows(NullPointerException.class, () -> builder.build(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Equivalência")
+    class EquivalenceTests {
+
+        @Test
+        @DisplayName("Deve concordar com uma cadeia de if/else")
+        void shouldAgreeWithNaiveChain() {
+            Random random = new Random(7);
+            int n = 200;
+            int[] from = new int[n];
+            int[] to = new int[n];
+            String[] bees = new String[n];
+            Integer[] actions = new Integer[n];
+            BuzzMatcher.Builder<Integer> builder = BuzzMatcher.builder();
+            for (int r = 0; r < n; r++) {
+                from[r] = random.nextInt(4096);
+                to[r] = from[r] + random.nextInt(64);
+                bees[r] = random.nextInt(3) == 0 ? "BEE_" + random.nextInt(20) : null;
+                actions[r] = r;
+                builder.rule(from[r], to[r], bees[r], actions[r]);
+            }
+            BuzzMatcher<Integer> matcher = builder.build(-1);
+
+            for (int i = 0; i < 20_000; i++) {
+                int code = random.nextInt(4200) - 50;
+                String bee = random.nextBoolean() ? "BEE_" + random.nextInt(25) : null;
+                int expected = -1;
+                for (int r = 0; r < n; r++) {
+                    if (code >= from[r]
+                            && code <= to[r]
+                            && (bees[r] == null || bees[r].equals(bee))) {
+                        expected = r;
+                        break;
+                    }
+                }
+                assertEquals(expected, (int) matcher.match(code, bee), code + " " + bee);
+            }
+        }
+    }
+}
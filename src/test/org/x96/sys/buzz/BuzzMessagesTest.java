@@ -0,0 +1,159 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+@DisplayName("Testes para o catálogo de mensagens BuzzMessages")
+class BuzzMessagesTest {
+
+    private static final Locale PT_BR = Locale.forLanguageTag("pt-BR");
+    private static final Locale PT_PT = Locale.forLanguageTag("pt-PT");
+
+    private static BuzzMessages.Builder sample() {
+        return BuzzMessages.builder()
+                .add(404, Locale.ROOT, "NOT_FOUND", "{} not found")
+                .add(404, Locale.forLanguageTag("pt"), "NOT_FOUND", "{} não encontrado")
+                .add(404, PT_BR, "NOT_FOUND", "{} não foi encontrado 🐝")
+                .add(500, Locale.ROOT, "INTERNAL", "internal error")
+                .add(-1, Locale.ROOT, null, "negative")
+                .add(0x7FFFFFFF, Locale.GERMAN, "MAX", "größter Code");
+    }
+
+    private static Path file() throws IOException {
+        Path file = Files.createTempFile("buzz-messages", ".bin");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Testes de Busca")
+    class LookupTests {
+
+        private final BuzzMessages messages = new BuzzMessages(sample().toBuffer());
+
+        @Test
+        @DisplayName("Deve achar o template do locale exato")
+        void shouldFindExactLocale() {
+            assertEquals("{} não foi encontrado 🐝", messages.template(404, PT_BR));
+            assertEquals("größter Code", messages.template(0x7FFFFFFF, Locale.GERMAN));
+            assertEquals(6, messages.size());
+        }
+
+        @Test
+        @DisplayName("Deve recorrer ao idioma e depois ao locale raiz")
+        void shouldFallBack() {
+            assertEquals("{} não encontrado", messages.template(404, PT_PT));
+            assertEquals("{} not found", messages.template(404, Locale.JAPANESE));
+            assertEquals("internal error", messages.template(500, PT_BR));
+            assertEquals("{} not found", messages.template(404, null));
+        }
+
+        @Test
+        @DisplayName("Código ou locale ausente deve devolver null")
+        void missingShouldReturnNull() {
+            assertNull(messages.template(403, Locale.ROOT));
+            assertNull(messages.template(0x7FFFFFFF, Locale.FRENCH));
+            assertEquals("negative", messages.template(-1, Locale.ROOT));
+            assertNull(messages.bee(-1, Locale.ROOT));
+        }
+
+        @Test
+        @DisplayName("Bees devem ser canônicos e templates reaproveitados")
+        void shouldInternAndCache() {
+            assertSame(BuzzCatalog.intern("NOT_FOUND"), messages.bee(404, PT_BR));
+            assertSame(messages.template(404, PT_BR), messages.template(404, PT_BR));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Buzz")
+    class BuzzTests {
+
+        @Test
+        @DisplayName("Deve criar Buzz com template localizado e argumentos preguiçosos")
+        void shouldCreateLocalizedBuzz() {
+            BuzzMessages messages = new BuzzMessages(sample().toBuffer());
+            IllegalStateException cause = new IllegalStateException();
+
+            Buzz buzz = messages.of(404, PT_BR, "Arquivo", cause);
+
+            assertEquals(404, buzz.code());
+            assertEquals("NOT_FOUND", buzz.bee());
+            assertEquals("{} não foi encontrado 🐝", buzz.template());
+            assertEquals("Arquivo não foi encontrado 🐝", buzz.msg());
+            assertSame(cause, buzz.getCause());
+        }
+
+        @Test
+        @DisplayName("Código sem template deve ser rejeitado")
+        void shouldRejectMissingCode() {
+            BuzzMessages messages = new BuzzMessages(sample().toBuffer());
+
+            assertThrows(IllegalArgumentException.class, () -> messages.of(403, PT_BR));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Arquivo")
+    class FileTests {
+
+        @Test
+        @DisplayName("Deve ler o catálogo mapeado do disco")
+        void shouldReadMappedFile() throws Exception {
+            Path file = file();
+            sample().write(file);
+
+            BuzzMessages messages = BuzzMessages.open(file);
+
+            assertEquals("{} não encontrado", messages.template(404, PT_PT));
+            assertEquals("MAX", messages.bee(0x7FFFFFFF, Locale.GERMAN));
+        }
+
+        @Test
+        @DisplayName("Strings repetidas devem ser gravadas uma vez")
+        void shouldDeduplicateStrings() {
+            ByteBuffer one = BuzzMessages.builder().add(1, Locale.ROOT, "A", "same").toBuffer();
+            ByteBuffer two =
+                    BuzzMessages.builder()
+                            .add(1, Locale.ROOT, "A", "same")
+                            .add(2, Locale.ROOT, "A", "same")
+                            .toBuffer();
+
+            assertEquals(BuzzMessages.ENTRY, two.remaining() - one.remaining());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar arquivos inválidos")
+        void shouldRejectInvalidFiles() throws Exception {
+            Path file = file();
+            Files.write(file, new byte[] {1, 2, 3});
+            ByteBuffer truncated = sample().toBuffer();
+            truncated.putInt(12, 1 << 20);
+            ByteBuffer future = sample().toBuffer();
+            future.putInt(4, BuzzMessages.VERSION + 1);
+
+            assertThrows(IllegalArgumentException.class, () -> BuzzMessages.open(file));
+            assertThrows(IllegalArgumentException.class, () -> new BuzzMessages(truncated));
+            assertThrows(IllegalArgumentException.class, () -> new BuzzMessages(future));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar templates duplicados")
+        void shouldRejectDuplicates() {
+            BuzzMessages.Builder builder = BuzzMessages.builder().add(1, PT_BR, "A", "a");
+
+            assertThrows(IllegalArgumentException.class, () -> builder.add(1, PT_BR, "B", "b"));
+            assertThrows(NullPointerException.class, () -> builder.add(2, null, "B", "b"));
+            assertThrows(NullPointerException.class, () -> builder.add(2, PT_BR, "B", null));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+@DisplayName("Testes para BuzzResult")
+class BuzzResultTest {
+
+    private static BuzzResult<Integer> parse(String s) {
+        try {
+            return BuzzResult.ok(Integer.parseInt(s));
+        } catch (NumberFormatException e) {
+            return BuzzResult.failure(400, "BAD_NUMBER", "Número inválido");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Sucesso")
+    class OkTests {
+
+        @Test
+        @DisplayName("Deve guardar o valor")
+        void shouldKeepValue() {
+            BuzzResult<Integer> result = parse("42");
+
+            assertTrue(result.isOk());
+            assertFalse(result.isFailure());
+            assertEquals(42, (int) result.orElseThrow());
+            assertEquals(42, (int) result.orElse(0));
+            assertFalse(result.is(400));
+        }
+
+        @Test
+        @DisplayName("map e flatMap devem aplicar a função")
+        void mapAndFlatMapShouldApply() {
+            BuzzResult<String> result =
+                    parse("20").map(n -> n * 2).flatMap(n -> BuzzResult.ok("n=" + n));
+
+            assertEquals("n=40", result.orElseThrow());
+        }
+
+        @Test
+        @DisplayName("Acessores de falha devem falhar")
+        void failureAccessorsShouldThrow() {
+            BuzzResult<Integer> result = BuzzResult.ok(1);
+
+            assertThrows(IllegalStateException.class, result::code);
+            assertThrows(IllegalStateException.class, result::buzz);
+        }
+
+        @Test
+        @DisplayName("Deve aceitar valor nulo")
+        void shouldAcceptNull() {
+            BuzzResult<String> result = BuzzResult.ok(null);
+
+            assertTrue(result.isOk());
+            assertNull(result.orElseThrow());
+            assertEquals("Ok[null]", result.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Falha")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Deve expor code, bee e msg")
+        void shouldExposeFields() {
+            BuzzResult<Integer> result = parse("x");
+
+            assertTrue(result.isFailure());
+            assertEquals(400, result.code());
+            assertEquals("BAD_NUMBER", result.bee());
+            assertEquals("Número inválido", result.msg());
+            assertTrue(result.is(400));
+            assertEquals(-1, (int) result.orElse(-1));
+        }
+
+        @Test
+        @DisplayName("Falhas iguais devem ser a mesma instância")
+        void failuresShouldBeShared() {
+            assertSame(parse("x"), parse("y"));
+            assertSame(Buzz.cached(400, "BAD_NUMBER", "Número inválido"), parse("x").buzz());
+        }
+
+        @Test
+        @DisplayName("map e flatMap não devem executar a função")
+        void mapShouldSkipFunction() {
+            BuzzResult<Integer> failure = parse("x");
+
+            BuzzResult<String> mapped =
+                    failure.map(
+                            n -> {
+                                throw new AssertionError("map executado");
+                            });
+            BuzzResult<String> flat =
+                    failure.flatMap(
+                            n -> {
+                                throw new AssertionError("flatMap executado");
+                            });
+
+            assertSame(failure, mapped);
+            assertSame(failure, flat);
+        }
+
+        @Test
+        @DisplayName("orElseThrow deve lançar o Buzz")
+        void orElseThrowShouldThrowBuzz() {
+            Buzz thrown = assertThrows(Buzz.class, () -> parse("x").orElseThrow());
+
+            assertEquals(400, thrown.code());
+            assertEquals("BAD_NUMBER", thrown.bee());
+        }
+
+        @Test
+        @DisplayName("Falha a partir de um Buzz deve relançar a mesma instância")
+        void wrappedBuzzShouldBeRethrown() {
+            Buzz buzz = new Buzz(500, "FAIL", "falhou");
+
+            BuzzResult<String> result = BuzzResult.failure(buzz);
+
+            assertSame(buzz, assertThrows(Buzz.class, result::orElseThrow));
+            assertThrows(NullPointerException.class, () -> BuzzResult.failure(null));
+        }
+
+        @Test
+        @DisplayName("catching deve converter apenas Buzz")
+        void catchingShouldConvertOnlyBuzz() {
+            Buzz buzz = Buzz.stackless(404, "NOT_FOUND", "nada");
+
+            assertEquals(1, (int) BuzzResult.catching(() -> 1).orElseThrow());
+            Supplier<Integer> buzzing =
+                    () -> {
+                        throw buzz;
+                    };
+            Supplier<Integer> failing =
+                    () -> {
+                        throw new IllegalStateException();
+                    };
+
+            assertSame(buzz, BuzzResult.catching(buzzing).buzz());
+            assertThrows(IllegalStateException.class, () -> BuzzResult.catching(failing));
+        }
+
+        @Test
+        @DisplayName("Falhas com os mesmos campos devem ser iguais")
+        void equalFieldsShouldBeEqual() {
+            BuzzResult<Integer> cached = parse("x");
+            BuzzResult<Integer> wrapped =
+                    BuzzResult.failure(new Buzz(400, "BAD_NUMBER", "Número inválido"));
+
+            assertEquals(cached, wrapped);
+            assertEquals(cached.hashCode(), wrapped.hashCode());
+            assertNotEquals(cached, BuzzResult.ok(1));
+            assertEquals(BuzzResult.ok(1), BuzzResult.ok(1));
+            assertEquals("Failure[0x190 BAD_NUMBER: Número inválido]", cached.toString());
+        }
+    }
+}
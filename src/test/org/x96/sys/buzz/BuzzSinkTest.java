@@ -0,0 +1,338 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@DisplayName("Testes para o BuzzSink assíncrono")
+class BuzzSinkTest {
+
+    private static Path tempFile() throws Exception {
+        Path file = Files.createTempFile("buzz-sink", ".log");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Nested
+    @DisplayName("Testes de Escrita")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Deve escrever uma linha por Buzz")
+        void shouldWriteOneLinePerBuzz() throws Exception {
+            Path file = tempFile();
+            try (BuzzSink sink = BuzzSink.open(file, 16, BuzzSink.Overflow.BLOCK)) {
+                assertTrue(
+                        sink.publish(Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado")));
+                assertTrue(sink.publish(Buzz.stackless(-1, null, null)));
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(
+                    List.of("0x194 [NOT_FOUND] Recurso não encontrado", "0xFFFFFFFF [null] null"),
+                    lines);
+        }
+
+        @Test
+        @DisplayName("Deve escrever o stack trace quando existir")
+        void shouldWriteStackTrace() throws Exception {
+            Path file = tempFile();
+            Buzz buzz = new Buzz(1, "STACK", "com pilha");
+            try (BuzzSink sink = BuzzSink.open(file, 16, BuzzSink.Overflow.BLOCK)) {
+                sink.publish(buzz);
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(2 + buzz.getStackTrace().length, lines.size());
+            assertEquals("\tfingerprint " + Long.toHexString(buzz.fingerprint()), lines.get(1));
+            assertEquals("\tat " + buzz.getStackTrace()[0], lines.get(2));
+        }
+
+        @Test
+        @DisplayName("Deve escrever o contexto da requisição")
+        void shouldWriteContext() throws Exception {
+            Path file = tempFile();
+            Buzz buzz =
+                    BuzzContext.of("r-1", "acme", "t-9")
+                            .call(() -> Buzz.stackless(404, "NOT_FOUND", "nada"));
+            try (BuzzSink sink = BuzzSink.open(file, 16, BuzzSink.Overflow.BLOCK)) {
+                sink.publish(buzz);
+            }
+
+            assertEquals(
+                    List.of("0x194 [NOT_FOUND] nada {request=r-1 tenant=acme trace=t-9}"),
+                    Files.readAllLines(file, StandardCharsets.UTF_8));
+        }
+
+        @Test
+        @DisplayName("Deve indicar stack omitido por amostragem")
+        void shouldNoteSampledOutStack() throws Exception {
+            Path file = tempFile();
+            BuzzStack.Capture policy = BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 1_000_000);
+            Buzz.captured(policy, 1, "SAMPLE", "primeiro", null);
+            Buzz buzz = Buzz.captured(policy, 1, "SAMPLE", "segundo", null);
+            try (BuzzSink sink = BuzzSink.open(file, 16, BuzzSink.Overflow.BLOCK)) {
+                sink.publish(buzz);
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(2, lines.size());
+            assertEquals("\t... stack not sampled, SAMPLED(1 in 1000000)", lines.get(1));
+        }
+
+        @Test
+        @DisplayName("Deve resumir stack traces repetidos")
+        void shouldSummarizeRepeatedStackTraces() throws Exception {
+            Path file = tempFile();
+            Buzz[] buzzes = new Buzz[3];
+            for (int i = 0; i < buzzes.length; i++) {
+                buzzes[i] = new Buzz(1, "REPEAT", "repetido");
+            }
+            try (BuzzSink sink = BuzzSink.open(file, 16, BuzzSink.Overflow.BLOCK)) {
+                for (Buzz buzz : buzzes) {
+                    sink.publish(buzz);
+                }
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            int frames = buzzes[0].getStackTrace().length;
+            assertEquals(2 + frames + 2 + 2, lines.size());
+            String fingerprint = Long.toHexString(buzzes[0].fingerprint());
+            assertTrue(lines.get(2 + frames + 1).startsWith("\t... seen "));
+            assertTrue(lines.get(2 + frames + 1).endsWith(" times, fingerprint " + fingerprint));
+        }
+
+        @Test
+        @DisplayName("Deve recusar publicação após fechar")
+        void shouldRejectAfterClose() throws Exception {
+            BuzzSink sink = BuzzSink.open(tempFile(), 16, BuzzSink.Overflow.BLOCK);
+            sink.close();
+
+            assertFalse(sink.publish(Buzz.cached(1, "CLOSED", "fechado")));
+            assertDoesNotThrow(sink::close);
+        }
+
+        @Test
+        @DisplayName("Falha de escrita deve aparecer no close")
+        void writeFailureShouldSurfaceOnClose() throws Exception {
+            Path full = Path.of("/dev/full");
+            assumeTrue(Files.isWritable(full));
+            BuzzSink sink = BuzzSink.open(full, 16, BuzzSink.Overflow.BLOCK);
+
+            assertTrue(sink.publish(Buzz.stackless(1, "FULL", "disco cheio")));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (sink.publish(Buzz.stackless(1, "FULL", "disco cheio"))) {
+                assertTrue(System.nanoTime() < deadline);
+                Thread.sleep(1);
+            }
+
+            assertThrows(java.io.IOException.class, sink::close);
+            assertEquals(0, sink.written());
+            assertDoesNotThrow(sink::close);
+        }
+
+        @Test
+        @DisplayName("Buzz que falha ao renderizar não deve parar o sink")
+        void badBuzzShouldNotStopSink() throws Exception {
+            Path file = tempFile();
+            BuzzSink sink = BuzzSink.open(file, 4, BuzzSink.Overflow.BLOCK);
+            try {
+                for (int i = 0; i < 8; i++) {
+                    assertTrue(sink.publish(new Broken(new IllegalStateException("msg"))));
+                }
+                assertTrue(sink.publish(Buzz.stackless(1, "OK", "depois")));
+            } finally {
+                sink.close();
+            }
+
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            assertEquals(9, sink.written());
+            assertEquals(8, sink.unrendered());
+            String note = " could not be rendered: " + IllegalStateException.class.getName();
+            assertEquals("! " + Broken.class.getName() + note, lines.get(0));
+            assertEquals("0x1 [OK] depois", lines.get(8));
+        }
+
+        @Test
+        @DisplayName("Erro fatal no drainer deve aparecer no close")
+        void drainerErrorShouldSurfaceOnClose() throws Exception {
+            BuzzSink sink = BuzzSink.open(tempFile(), 4, BuzzSink.Overflow.BLOCK);
+            Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+            Thread.setDefaultUncaughtExceptionHandler((t, e) -> {});
+            try {
+                assertTrue(sink.publish(new Broken(new AssertionError("fatal"))));
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (sink.publish(Buzz.stackless(1, "LATE", "tarde"))) {
+                    assertTrue(System.nanoTime() < deadline);
+                    Thread.sleep(1);
+                }
+
+                java.io.IOException e = assertThrows(java.io.IOException.class, sink::close);
+                assertTrue(e.getCause() instanceof AssertionError);
+            } finally {
+                Thread.setDefaultUncaughtExceptionHandler(handler);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve validar os argumentos")
+        void shouldValidateArguments() {
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzSink.open(tempFile(), 0, BuzzSink.Overflow.DROP));
+            assertThrows(NullPointerException.class, () -> BuzzSink.open(tempFile(), 8, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Bloquear não deve perder nenhum Buzz")
+        void blockShouldLoseNothing() throws Exception {
+            Path file = tempFile();
+            int threads = 8;
+            int perThread = 5_000;
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            BuzzSink sink = BuzzSink.open(file, 64, BuzzSink.Overflow.BLOCK);
+            try {
+                Future<?>[] futures = new Future<?>[threads];
+                for (int t = 0; t < threads; t++) {
+                    int id = t;
+                    futures[t] =
+                            pool.submit(
+                                    () -> {
+                                        start.await();
+                                        Buzz buzz = Buzz.cached(id, "MT", "concorrente");
+                                        for (int i = 0; i < perThread; i++) {
+                                            assertTrue(sink.publish(buzz));
+                                        }
+                                        return null;
+                                    });
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get(60, TimeUnit.SECONDS);
+                }
+            } finally {
+                pool.shutdownNow();
+                sink.close();
+            }
+
+            assertEquals((long) threads * perThread, sink.written());
+            assertEquals(threads * perThread, Files.readAllLines(file).size());
+        }
+
+        @Test
+        @DisplayName("Contar e descartar deve somar publicados e descartados")
+        void countAndDropShouldAccountForEverything() throws Exception {
+            Path file = tempFile();
+            int total = 100_000;
+            int accepted = 0;
+            BuzzSink sink = BuzzSink.open(file, 2, BuzzSink.Overflow.COUNT_AND_DROP);
+            try {
+                Buzz buzz = Buzz.cached(2, "DROP", "descarte");
+                for (int i = 0; i < total; i++) {
+                    if (sink.publish(buzz)) {
+                        accepted++;
+                    }
+                }
+            } finally {
+                sink.close();
+            }
+
+            assertEquals(total, accepted + sink.dropped());
+            assertEquals(accepted, sink.written());
+        }
+
+        @Test
+        @DisplayName("Fechar durante publicações deve escrever tudo o que foi aceito")
+        void closeDuringPublishShouldWriteAccepted() throws Exception {
+            for (int round = 0; round < 20; round++) {
+                Path file = tempFile();
+                int threads = 4;
+                ExecutorService pool = Executors.newFixedThreadPool(threads);
+                BuzzSink sink = BuzzSink.open(file, 1024, BuzzSink.Overflow.DROP);
+                Future<?>[] futures = new Future<?>[threads];
+                try {
+                    for (int t = 0; t < threads; t++) {
+                        futures[t] =
+                                pool.submit(
+                                        () -> {
+                                            long accepted = 0;
+                                            Buzz buzz = Buzz.cached(4, "RACE", "corrida");
+                                            for (int i = 0; i < 20_000; i++) {
+                                                if (sink.publish(buzz)) {
+                                                    accepted++;
+                                                }
+                                            }
+                                            return accepted;
+                                        });
+                    }
+                    Thread.sleep(1);
+                    sink.close();
+                    long accepted = 0;
+                    for (Future<?> future : futures) {
+                        accepted += (Long) future.get(60, TimeUnit.SECONDS);
+                    }
+
+                    assertEquals(accepted, sink.written());
+                    assertEquals(accepted, Files.readAllLines(file).size());
+                } finally {
+                    pool.shutdownNow();
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Descartar não deve contar")
+        void dropShouldNotCount() throws Exception {
+            BuzzSink sink = BuzzSink.open(tempFile(), 2, BuzzSink.Overflow.DROP);
+            try {
+                Buzz buzz = Buzz.cached(3, "DROP", "silencioso");
+                for (int i = 0; i < 10_000; i++) {
+                    sink.publish(buzz);
+                }
+            } finally {
+                sink.close();
+            }
+
+            assertEquals(0, sink.dropped());
+        }
+    }
+
+    /** A subclass whose message cannot be read. */
+    static final class Broken extends Buzz {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Throwable failure;
+
+        Broken(Throwable failure) {
+            super(2, "BROKEN", "quebrado", null, true, false);
+            this.failure = failure;
+        }
+
+        @Override
+        public String msg() {
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw (RuntimeException) failure;
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para a captura de stack trace")
+class BuzzStackTest {
+
+    @AfterEach
+    void tearDown() {
+        BuzzStack.reset();
+    }
+
+    private static Buzz raise(int code) {
+        return new Buzz(code, "STACK", "pilha");
+    }
+
+    private static Buzz dive(int depth, int code) {
+        return depth == 0 ? raise(code) : dive(depth - 1, code);
+    }
+
+    @Nested
+    @DisplayName("Testes de Captura Completa")
+    class FullTests {
+
+        @Test
+        @DisplayName("Deve ser o padrão")
+        void shouldBeDefault() {
+            Buzz buzz = raise(1);
+
+            assertSame(BuzzStack.Capture.FULL, buzz.capture());
+            assertEquals(BuzzStack.Kind.FULL, buzz.capture().kind());
+        }
+
+        @Test
+        @DisplayName("Primeiro frame deve ser quem criou o Buzz")
+        void topFrameShouldBeCreator() {
+            StackTraceElement top = raise(1).getStackTrace()[0];
+
+            assertEquals(BuzzStackTest.class.getName(), top.getClassName());
+            assertEquals("raise", top.getMethodName());
+        }
+
+        @Test
+        @DisplayName("Deve ter a mesma profundidade de uma exceção comum")
+        void shouldMatchPlainExceptionDepth() {
+            int plain = new RuntimeException().getStackTrace().length;
+            int buzz = new Buzz(1, "STACK", "pilha").getStackTrace().length;
+
+            assertEquals(plain, buzz);
+        }
+
+        @Test
+        @DisplayName("Recarregar o stack trace deve continuar funcionando")
+        void refillShouldStillWork() {
+            Buzz buzz = raise(1);
+
+            buzz.fillInStackTrace();
+
+            assertEquals("refillShouldStillWork", buzz.getStackTrace()[0].getMethodName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Captura Limitada")
+    class TopTests {
+
+        @Test
+        @DisplayName("Deve guardar só os frames do topo")
+        void shouldKeepOnlyTopFrames() {
+            BuzzStack.capture(BuzzStack.Capture.top(3));
+
+            Buzz buzz = dive(20, 1);
+
+            StackTraceElement[] frames = buzz.getStackTrace();
+            assertEquals(3, frames.length);
+            assertEquals("raise", frames[0].getMethodName());
+            assertEquals("dive", frames[1].getMethodName());
+            assertEquals("dive", frames[2].getMethodName());
+            assertEquals(BuzzStack.Kind.TOP, buzz.capture().kind());
+        }
+
+        @Test
+        @DisplayName("Deve coincidir com o topo da captura completa")
+        void shouldMatchFullCaptureTop() {
+            StackTraceElement[] full = dive(5, 1).getStackTrace();
+            BuzzStack.capture(BuzzStack.Capture.top(4));
+            StackTraceElement[] top = dive(5, 1).getStackTrace();
+
+            for (int i = 0; i < top.length; i++) {
+                assertEquals(full[i].getClassName(), top[i].getClassName());
+                assertEquals(full[i].getMethodName(), top[i].getMethodName());
+            }
+        }
+
+        @Test
+        @DisplayName("Deve pular pacotes configurados")
+        void shouldSkipPackages() {
+            BuzzStack.capture(BuzzStack.Capture.top(2, "org.x96.sys.buzz"));
+
+            StackTraceElement[] frames = raise(1).getStackTrace();
+
+            assertEquals(2, frames.length);
+            for (StackTraceElement frame : frames) {
+                assertFalse(frame.getClassName().startsWith("org.x96.sys.buzz."));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar profundidade inválida")
+        void shouldRejectInvalidDepth() {
+            assertThrows(IllegalArgumentException.class, () -> BuzzStack.Capture.top(0));
+        }
+
+        @Test
+        @DisplayName("Deve descrever a captura")
+        void shouldDescribeCapture() {
+            assertEquals("TOP(5)", BuzzStack.Capture.top(5).toString());
+            assertEquals("TOP(2, skip [a.b.])", BuzzStack.Capture.top(2, "a.b").toString());
+            assertEquals("NONE", BuzzStack.Capture.NONE.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Configuração")
+    class ConfigurationTests {
+
+        @Test
+        @DisplayName("Configuração por código deve prevalecer sobre a global")
+        void perCodeShouldOverrideGlobal() {
+            BuzzStack.capture(BuzzStack.Capture.top(2));
+            BuzzStack.capture(0x194, BuzzStack.Capture.NONE);
+
+            Buzz silent = raise(0x194);
+            Buzz other = raise(0x195);
+
+            assertEquals(0, silent.getStackTrace().length);
+            assertSame(BuzzStack.Capture.NONE, silent.capture());
+            assertEquals(2, other.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Sem pilha por código não deve aceitar stack trace")
+        void perCodeNoneShouldNotBeWritable() {
+            BuzzStack.capture(0x196, BuzzStack.Capture.NONE);
+
+            Buzz buzz = raise(0x196);
+            buzz.setStackTrace(new Throwable().getStackTrace());
+
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Captura por instância deve prevalecer sobre a configuração")
+        void perInstanceShouldOverrideConfiguration() {
+            BuzzStack.capture(BuzzStack.Capture.NONE);
+
+            Buzz buzz = Buzz.captured(BuzzStack.Capture.top(1), 1, "ONE", "um", null);
+
+            assertEquals(1, buzz.getStackTrace().length);
+            assertEquals(
+                    "perInstanceShouldOverrideConfiguration",
+                    buzz.getStackTrace()[0].getMethodName());
+        }
+
+        @Test
+        @DisplayName("Stackless deve ignorar a configuração")
+        void stacklessShouldIgnoreConfiguration() {
+            BuzzStack.capture(BuzzStack.Capture.FULL);
+
+            Buzz buzz = Buzz.stackless(1, "NONE", "sem pilha");
+
+            assertSame(BuzzStack.Capture.NONE, buzz.capture());
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Reset deve voltar à captura completa")
+        void resetShouldRestoreFull() {
+            BuzzStack.capture(BuzzStack.Capture.NONE);
+            BuzzStack.capture(7, BuzzStack.Capture.top(1));
+
+            BuzzStack.reset();
+
+            assertSame(BuzzStack.Capture.FULL, BuzzStack.captureFor(7));
+            assertSame(BuzzStack.Capture.FULL, BuzzStack.captureFor(8));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar captura nula")
+        void shouldRejectNullCapture() {
+            assertThrows(NullPointerException.class, () -> BuzzStack.capture(null));
+            assertThrows(NullPointerException.class, () -> BuzzStack.capture(1, null));
+            assertThrows(NullPointerException.class, () -> Buzz.captured(null, 1, "X", "x", null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Amostragem")
+    class SamplingTests {
+
+        @Test
+        @DisplayName("Primeira ocorrência deve ter stack completo")
+        void firstOccurrenceShouldBeCaptured() {
+            BuzzStack.capture(7, BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 1_000_000));
+
+            Buzz first = raise(7);
+            Buzz second = raise(7);
+
+            assertEquals(BuzzStack.Kind.FULL, first.capture().kind());
+            assertTrue(first.capture().sampled());
+            assertTrue(first.getStackTrace().length > 0);
+            assertEquals(BuzzStack.Kind.SAMPLED, second.capture().kind());
+            assertTrue(second.capture().sampled());
+            assertEquals(0, second.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Amostragem global deve capturar a primeira ocorrência de cada código")
+        void globalSamplingShouldBePerCode() {
+            BuzzStack.capture(BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 1_000_000));
+
+            for (int code = 100; code < 200; code++) {
+                assertEquals(BuzzStack.Kind.FULL, raise(code).capture().kind());
+                assertEquals(BuzzStack.Kind.SAMPLED, raise(code).capture().kind());
+            }
+        }
+
+        @Test
+        @DisplayName("Limite por segundo global deve valer por código")
+        void globalRateShouldBePerCode() {
+            BuzzStack.capture(BuzzStack.Capture.perSecond(BuzzStack.Capture.top(1), 1));
+
+            assertEquals(BuzzStack.Kind.TOP, raise(1).capture().kind());
+            assertEquals(BuzzStack.Kind.TOP, raise(2).capture().kind());
+        }
+
+        @Test
+        @DisplayName("Um em um deve capturar sempre")
+        void oneInOneShouldAlwaysCapture() {
+            BuzzStack.capture(BuzzStack.Capture.oneIn(BuzzStack.Capture.top(2), 1));
+
+            for (int i = 0; i < 10; i++) {
+                assertEquals(2, raise(1).getStackTrace().length);
+            }
+        }
+
+        @Test
+        @DisplayName("Um em N deve capturar uma fração próxima de 1/N")
+        void oneInNShouldApproximateRate() {
+            BuzzStack.capture(1, BuzzStack.Capture.oneIn(BuzzStack.Capture.top(1), 10));
+
+            int captured = 0;
+            for (int i = 0; i < 10_000; i++) {
+                if (raise(1).capture().kind() == BuzzStack.Kind.TOP) {
+                    captured++;
+                }
+            }
+
+            assertTrue(captured > 700 && captured < 1300, "capturados: " + captured);
+        }
+
+        @Test
+        @DisplayName("Limite por segundo deve ser respeitado")
+        void perSecondShouldCapAndRecover() throws InterruptedException {
+            BuzzStack.capture(1, BuzzStack.Capture.perSecond(BuzzStack.Capture.FULL, 3));
+
+            int captured = 0;
+            for (int i = 0; i < 100; i++) {
+                if (raise(1).capture().kind() == BuzzStack.Kind.FULL) {
+                    captured++;
+                }
+            }
+            assertTrue(captured >= 3 && captured <= 6, "capturados: " + captured);
+
+            Thread.sleep(1100);
+            assertEquals(BuzzStack.Kind.FULL, raise(1).capture().kind());
+        }
+
+        @Test
+        @DisplayName("Códigos com a mesma política devem ter estado próprio")
+        void codesShouldNotShareState() {
+            BuzzStack.Capture policy = BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 1_000_000);
+            BuzzStack.capture(1, policy);
+            BuzzStack.capture(2, policy);
+
+            raise(1);
+
+            assertEquals(BuzzStack.Kind.FULL, raise(2).capture().kind());
+            assertEquals(BuzzStack.Kind.SAMPLED, raise(1).capture().kind());
+        }
+
+        @Test
+        @DisplayName("Captura por instância também deve ser amostrada")
+        void capturedShouldBeSampled() {
+            BuzzStack.Capture policy = BuzzStack.Capture.oneIn(BuzzStack.Capture.top(3), 1_000_000);
+
+            Buzz first = Buzz.captured(policy, 1, "A", "a", null);
+            Buzz second = Buzz.captured(policy, 1, "A", "a", null);
+
+            assertSame(policy, first.capture());
+            assertEquals(BuzzStack.Kind.SAMPLED, second.capture().kind());
+        }
+
+        @Test
+        @DisplayName("toString deve mostrar a política")
+        void toStringShouldShowPolicy() {
+            BuzzStack.Capture policy = BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 1_000_000);
+            BuzzStack.capture(1, BuzzStack.Capture.perSecond(BuzzStack.Capture.top(5), 10));
+            BuzzStack.capture(2, policy);
+
+            assertEquals("TOP(5), 10/s", raise(1).capture().toString());
+            assertEquals("FULL, 1 in 1000000", raise(2).capture().toString());
+            assertEquals("SAMPLED(1 in 1000000)", raise(2).capture().toString());
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar políticas inválidas")
+        void shouldRejectInvalidPolicies() {
+            BuzzStack.Capture sampled = BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 2);
+
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzStack.Capture.oneIn(BuzzStack.Capture.FULL, 0));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzStack.Capture.perSecond(BuzzStack.Capture.FULL, 0));
+            assertThrows(
+                    IllegalArgumentException.class,
+                    () -> BuzzStack.Capture.oneIn(BuzzStack.Capture.NONE, 2));
+            assertThrows(IllegalArgumentException.class, () -> BuzzStack.Capture.oneIn(sampled, 2));
+            assertThrows(NullPointerException.class, () -> BuzzStack.Capture.perSecond(null, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Subclasses")
+    class SubclassTests {
+
+        /** The usual Throwable idiom for an exception that never records its stack. */
+        static final class Fast extends Buzz {
+            private static final long serialVersionUID = 1L;
+
+            Fast() {
+                super(1, "FAST", "rápido");
+            }
+
+            @Override
+            public Throwable fillInStackTrace() {
+                return this;
+            }
+        }
+
+        static final class Logged extends Buzz {
+            private static final long serialVersionUID = 1L;
+
+            Logged() {
+                super(1, "LOGGED", "registrado");
+            }
+
+            @Override
+            public synchronized Throwable fillInStackTrace() {
+                return super.fillInStackTrace();
+            }
+        }
+
+        private Buzz fast(int depth) {
+            return depth == 0 ? new Fast() : fast(depth - 1);
+        }
+
+        @Test
+        @DisplayName("Sobrescrita sem stack deve prevalecer na captura completa")
+        void overrideShouldWinOverFull() {
+            assertEquals(0, fast(50).getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Sobrescrita sem stack deve prevalecer na captura limitada")
+        void overrideShouldWinOverTop() {
+            BuzzStack.capture(BuzzStack.Capture.top(3));
+
+            assertEquals(0, fast(50).getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Sobrescrita que chama super deve começar em quem criou")
+        void superCallShouldStartAtCreator() {
+            assertEquals(
+                    "superCallShouldStartAtCreator",
+                    new Logged().getStackTrace()[0].getMethodName());
+            BuzzStack.capture(BuzzStack.Capture.top(1));
+
+            StackTraceElement[] top = new Logged().getStackTrace();
+
+            assertEquals(1, top.length);
+            assertEquals("superCallShouldStartAtCreator", top[0].getMethodName());
+        }
+    }
+}
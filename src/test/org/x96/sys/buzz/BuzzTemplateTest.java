@@ -0,0 +1,62 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para o substituidor de templates")
+class BuzzTemplateTest {
+
+    private static String render(String template, Object... args) {
+        return BuzzTemplate.render(template, args);
+    }
+
+    @Test
+    @DisplayName("Deve substituir marcadores")
+    void shouldSubstitute() {
+        assertEquals("a=1, b=null", render("a={}, b={}", 1, null));
+        assertEquals("12", render("{}{}", 1, 2));
+        assertEquals("sem marcador", render("sem marcador", 1));
+    }
+
+    @Test
+    @DisplayName("Marcadores sem argumento devem ficar como estão")
+    void missingArgsShouldLeavePlaceholders() {
+        assertEquals("1 e {}", render("{} e {}", 1));
+        assertEquals("{ } {", render("{ } {", 1));
+    }
+
+    @Test
+    @DisplayName("Arrays devem ser renderizados pelo conteúdo")
+    void arraysShouldRenderContents() {
+        Object ids = new Object[] {1, new int[] {2, 3}};
+
+        assertEquals("ids [1, [2, 3]]", render("ids {}", ids));
+    }
+
+    @Test
+    @DisplayName("toString que falha não deve propagar")
+    void failingToStringShouldNotPropagate() {
+        Object bad =
+                new Object() {
+                    @Override
+                    public String toString() {
+                        throw new IllegalStateException();
+                    }
+                };
+
+        String text = render("x={}", bad);
+
+        assertTrue(text.startsWith("x=["), text);
+        assertTrue(text.endsWith(".toString() threw java.lang.IllegalStateException]"), text);
+    }
+
+    @Test
+    @DisplayName("Deve contar marcadores")
+    void shouldCountPlaceholders() {
+        assertEquals(0, BuzzTemplate.placeholders("nada"));
+        assertEquals(2, BuzzTemplate.placeholders("{}{}"));
+        assertEquals(1, BuzzTemplate.placeholders("{{}"));
+    }
+}
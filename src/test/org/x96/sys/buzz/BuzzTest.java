@@ -60,6 +60,55 @@ class BuzzTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes dos Acessores")
+    class AccessorTests {
+
+        @Test
+        @DisplayName("Deve expor código, bee e mensagem originais")
+        void shouldExposeRawValues() {
+            Buzz buzz = new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+
+            assertEquals(404, buzz.code());
+            assertEquals("NOT_FOUND", buzz.bee());
+            assertEquals("Recurso não encontrado", buzz.msg());
+        }
+
+        @Test
+        @DisplayName("Deve expor valores nulos sem convertê-los")
+        void shouldExposeNulls() {
+            Buzz buzz = new Buzz(0, null, null);
+
+            assertNull(buzz.bee());
+            assertNull(buzz.msg());
+        }
+
+        @Test
+        @DisplayName("Deve comparar o código com is")
+        void shouldMatchCode() {
+            Buzz buzz = Buzz.stackless(-1, "NEG", "negativo");
+
+            assertTrue(buzz.is(-1));
+            assertTrue(buzz.is(0xFFFFFFFF));
+            assertFalse(buzz.is(1));
+        }
+
+        @Test
+        @DisplayName("Acessores não devem formatar a mensagem")
+        void accessorsShouldNotFormatMessage() throws Exception {
+            Buzz buzz = new Buzz(1, "LAZY", "preguiça");
+
+            buzz.code();
+            buzz.bee();
+            buzz.msg();
+            buzz.is(1);
+
+            var field = Buzz.class.getDeclaredField("message");
+            field.setAccessible(true);
+            assertNull(field.get(buzz));
+        }
+    }
+
     @Nested
     @DisplayName("Testes do Método format")
     class FormatMethodTests {
@@ -114,6 +163,152 @@ class BuzzTest {
             String result = Buzz.format(100, null, "test");
             assertTrue(result.contains("null"));
         }
+
+        @Test
+        @DisplayName("Deve produzir a mesma saída que o padrão String.format")
+        void shouldMatchStringFormatPattern() {
+            int[] codes = {
+                0, 1, 9, 10, 15, 16, 123, 255, 256, 403, 404, 0xABCDEF, Integer.MAX_VALUE, -1,
+                -16, Integer.MIN_VALUE
+            };
+            String[][] texts = {{"BEE", "msg"}, {null, null}, {"", ""}, {"🚀", "ção ❤️"}};
+
+            for (int code : codes) {
+                for (String[] text : texts) {
+                    String expected =
+                            String.format(
+                                    "%s [0x%X]%n%s [%s]%n%s > %s",
+                                    "🦕", code, "🐝", text[0], "🌵", text[1]);
+                    assertEquals(expected, Buzz.format(code, text[0], text[1]));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Deve escrever no StringBuilder fornecido")
+        void shouldAppendToStringBuilder() {
+            StringBuilder out = new StringBuilder("> ");
+
+            StringBuilder result = Buzz.format(404, "NOT_FOUND", "Recurso", out);
+
+            assertSame(out, result);
+            assertEquals("> " + Buzz.format(404, "NOT_FOUND", "Recurso"), out.toString());
+        }
+
+        @Test
+        @DisplayName("Deve escrever no Appendable fornecido")
+        void shouldAppendToAppendable() throws Exception {
+            java.io.StringWriter out = new java.io.StringWriter();
+
+            Buzz.format(-1, null, null, (Appendable) out);
+
+            assertEquals(Buzz.format(-1, null, null), out.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Mensagem Preguiçosa")
+    class LazyMessageTests {
+
+        @Test
+        @DisplayName("Mensagem deve ser idêntica ao format")
+        void messageShouldMatchFormat() {
+            Buzz buzz = new Buzz(404, "NOT_FOUND", "Recurso não encontrado");
+
+            assertEquals(
+                    Buzz.format(404, "NOT_FOUND", "Recurso não encontrado"), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Mensagem deve ser idêntica ao format com valores nulos")
+        void messageShouldMatchFormatWithNulls() {
+            Buzz buzz = new Buzz(-1, null, null);
+
+            assertEquals(Buzz.format(-1, null, null), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Mensagem deve ser construída uma única vez")
+        void messageShouldBeCached() {
+            Buzz buzz = new Buzz(1, "CACHE", "uma vez");
+
+            assertSame(buzz.getMessage(), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Mensagem não deve ser construída antes de ser lida")
+        void messageShouldNotBeBuiltBeforeRead() throws Exception {
+            Buzz buzz = new Buzz(1, "LAZY", "preguiça");
+
+            var field = Buzz.class.getDeclaredField("message");
+            field.setAccessible(true);
+            assertNull(field.get(buzz));
+
+            buzz.getMessage();
+            assertNotNull(field.get(buzz));
+        }
+
+        @Test
+        @DisplayName("toString deve usar a mensagem formatada")
+        void toStringShouldUseFormattedMessage() {
+            Buzz buzz = new Buzz(2, "STR", "texto");
+
+            assertEquals(Buzz.class.getName() + ": " + buzz.getMessage(), buzz.toString());
+        }
+
+        @Test
+        @DisplayName("Causa não deve virar mensagem")
+        void causeShouldNotBecomeMessage() {
+            Buzz buzz = new Buzz(3, "CAUSE", "msg", new IllegalStateException("boom"));
+
+            assertEquals(Buzz.format(3, "CAUSE", "msg"), buzz.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Buzz sem Stack Trace")
+    class StacklessTests {
+
+        @Test
+        @DisplayName("Deve criar Buzz sem stack trace")
+        void shouldCreateBuzzWithoutStackTrace() {
+            Buzz buzz = Buzz.stackless(404, "NOT_FOUND", "Recurso não encontrado");
+
+            assertEquals(0, buzz.getStackTrace().length);
+            assertEquals(
+                    Buzz.format(404, "NOT_FOUND", "Recurso não encontrado"), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Deve manter causa sem stack trace")
+        void shouldKeepCauseWithoutStackTrace() {
+            Exception cause = new IllegalStateException("Estado inválido");
+            Buzz buzz = Buzz.stackless(500, "CHAIN", "Erro em cadeia", cause);
+
+            assertSame(cause, buzz.getCause());
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Stack trace não deve ser gravável")
+        void stackTraceShouldNotBeWritable() {
+            Buzz buzz = Buzz.stackless(1, "RO", "somente leitura");
+
+            buzz.setStackTrace(new Throwable().getStackTrace());
+            buzz.fillInStackTrace();
+
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Deve ser lançável e capturável")
+        void shouldBeThrowable() {
+            assertThrows(
+                    Buzz.class,
+                    () -> {
+                        throw Buzz.stackless(400, "BAD", "rejeitado");
+                    });
+        }
     }
 
     @Nested
@@ -260,4 +455,100 @@ class BuzzTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Testes de Mensagem com Template")
+    class TemplateTests {
+
+        @Test
+        @DisplayName("Deve substituir os marcadores na ordem")
+        void shouldSubstituteInOrder() {
+            Buzz buzz = Buzz.of(404, "NOT_FOUND", "user {} not found in {}", 42, "shard-7");
+
+            assertEquals("user 42 not found in shard-7", buzz.msg());
+            assertEquals(
+                    Buzz.format(404, "NOT_FOUND", "user 42 not found in shard-7"),
+                    buzz.getMessage());
+            assertEquals("user {} not found in {}", buzz.template());
+        }
+
+        @Test
+        @DisplayName("Não deve renderizar antes da leitura")
+        void shouldNotRenderBeforeRead() throws Exception {
+            Buzz buzz = Buzz.of(1, "LAZY", "valor {}", 7);
+
+            var field = Buzz.class.getDeclaredField("text");
+            field.setAccessible(true);
+            assertNull(field.get(buzz));
+
+            assertSame(buzz.msg(), buzz.msg());
+            assertEquals("valor 7", field.get(buzz));
+        }
+
+        @Test
+        @DisplayName("Sem argumentos deve manter a mensagem")
+        void withoutArgsShouldKeepMessage() {
+            String msg = "sem {} argumentos";
+
+            assertSame(msg, Buzz.of(1, "A", msg).msg());
+        }
+
+        @Test
+        @DisplayName("Throwable final sem marcador deve virar causa")
+        void trailingThrowableShouldBecomeCause() {
+            IllegalStateException cause = new IllegalStateException("boom");
+
+            Buzz buzz = Buzz.of(500, "FAIL", "falhou em {}", "db", cause);
+
+            assertSame(cause, buzz.getCause());
+            assertEquals("falhou em db", buzz.msg());
+        }
+
+        @Test
+        @DisplayName("Throwable com marcador deve virar argumento")
+        void placedThrowableShouldStayArgument() {
+            IllegalStateException error = new IllegalStateException("boom");
+
+            Buzz buzz = Buzz.of(500, "FAIL", "erro: {}", error);
+
+            assertNull(buzz.getCause());
+            assertEquals("erro: " + error, buzz.msg());
+        }
+
+        @Test
+        @DisplayName("Template nulo deve continuar nulo")
+        void nullTemplateShouldStayNull() {
+            Buzz buzz = Buzz.of(1, "NULL", null, 1, 2);
+
+            assertNull(buzz.msg());
+            assertEquals(Buzz.format(1, "NULL", null), buzz.getMessage());
+        }
+
+        @Test
+        @DisplayName("Serialização deve levar a mensagem renderizada")
+        void serializationShouldKeepRenderedMessage() throws Exception {
+            Object arg =
+                    new Object() {
+                        @Override
+                        public String toString() {
+                            return "anônimo";
+                        }
+                    };
+            Buzz buzz = Buzz.of(1, "SER", "objeto {}", arg);
+
+            var bytes = new java.io.ByteArrayOutputStream();
+            try (var out = new java.io.ObjectOutputStream(bytes)) {
+                out.writeObject(buzz);
+            }
+            Buzz copy;
+            try (var in =
+                    new java.io.ObjectInputStream(
+                            new java.io.ByteArrayInputStream(bytes.toByteArray()))) {
+                copy = (Buzz) in.readObject();
+            }
+
+            assertEquals("objeto anônimo", copy.msg());
+            assertEquals(buzz.getMessage(), copy.getMessage());
+        }
+    }
 }
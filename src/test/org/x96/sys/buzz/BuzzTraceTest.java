@@ -0,0 +1,148 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para fingerprint e deduplicação de stack traces")
+class BuzzTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        BuzzStack.reset();
+        BuzzTrace.clear();
+    }
+
+    private static Buzz raise() {
+        return new Buzz(1, "TRACE", "rastro");
+    }
+
+    private static StackTraceElement frame(String method, int line) {
+        return new StackTraceElement("a.b.C", method, "C.java", line);
+    }
+
+    @Nested
+    @DisplayName("Testes de Fingerprint")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("Traces iguais devem ter o mesmo fingerprint")
+        void equalTracesShouldMatch() {
+            StackTraceElement[] a = {frame("run", 10), frame("main", 3)};
+            StackTraceElement[] b = {frame("run", 10), frame("main", 3)};
+
+            assertEquals(BuzzTrace.fingerprint(a), BuzzTrace.fingerprint(b));
+        }
+
+        @Test
+        @DisplayName("Linha, método ou ordem diferentes devem mudar o fingerprint")
+        void differentTracesShouldDiffer() {
+            long base = BuzzTrace.fingerprint(new StackTraceElement[] {frame("run", 10)});
+            long line = BuzzTrace.fingerprint(new StackTraceElement[] {frame("run", 11)});
+            long method = BuzzTrace.fingerprint(new StackTraceElement[] {frame("go", 10)});
+
+            assertNotEquals(base, line);
+            assertNotEquals(base, method);
+            assertNotEquals(
+                    BuzzTrace.fingerprint(new StackTraceElement[] {frame("a", 1), frame("b", 2)}),
+                    BuzzTrace.fingerprint(new StackTraceElement[] {frame("b", 2), frame("a", 1)}));
+        }
+
+        @Test
+        @DisplayName("Deve aceitar frames sem arquivo")
+        void shouldAcceptMissingFileName() {
+            StackTraceElement[] frames = {new StackTraceElement("a.b.C", "run", null, -2)};
+
+            assertEquals(BuzzTrace.fingerprint(frames), BuzzTrace.fingerprint(frames.clone()));
+        }
+
+        @Test
+        @DisplayName("Buzz do mesmo ponto devem ter o mesmo fingerprint")
+        void sameSiteShouldMatch() {
+            Buzz[] buzzes = new Buzz[2];
+            for (int i = 0; i < buzzes.length; i++) {
+                buzzes[i] = raise();
+            }
+
+            assertEquals(buzzes[0].fingerprint(), buzzes[1].fingerprint());
+            assertNotEquals(buzzes[0].fingerprint(), raise().fingerprint());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Internação")
+    class InternTests {
+
+        @Test
+        @DisplayName("Traces iguais devem compartilhar os frames")
+        void equalTracesShouldShareFrames() {
+            StackTraceElement[] frames = {frame("run", 10)};
+
+            BuzzTrace.Trace first = BuzzTrace.intern(frames);
+            BuzzTrace.Trace second = BuzzTrace.intern(new StackTraceElement[] {frame("run", 10)});
+
+            assertSame(first, second);
+            assertEquals(2, second.seen());
+            assertArrayEquals(frames, second.frames());
+        }
+
+        @Test
+        @DisplayName("frames() deve devolver uma cópia")
+        void framesShouldBeCopy() {
+            BuzzTrace.Trace trace = BuzzTrace.intern(new StackTraceElement[] {frame("run", 10)});
+
+            trace.frames()[0] = frame("other", 1);
+
+            assertEquals("run", trace.frames()[0].getMethodName());
+        }
+
+        @Test
+        @DisplayName("Buzz repetidos devem compartilhar os elementos do stack")
+        void repeatedBuzzShouldShareElements() {
+            Buzz[] buzzes = new Buzz[2];
+            for (int i = 0; i < buzzes.length; i++) {
+                buzzes[i] = raise();
+            }
+            buzzes[0].fingerprint();
+            buzzes[1].fingerprint();
+
+            assertSame(buzzes[0].getStackTrace()[0], buzzes[1].getStackTrace()[0]);
+            assertEquals(2, buzzes[1].trace().seen());
+        }
+
+        @Test
+        @DisplayName("Captura TOP deve ser internada na construção")
+        void topCaptureShouldInternEagerly() {
+            BuzzStack.capture(BuzzStack.Capture.top(3));
+            Buzz[] buzzes = new Buzz[3];
+            for (int i = 0; i < buzzes.length; i++) {
+                buzzes[i] = raise();
+            }
+
+            assertEquals(3, buzzes[2].trace().seen());
+            assertSame(buzzes[0].getStackTrace()[0], buzzes[2].getStackTrace()[0]);
+        }
+
+        @Test
+        @DisplayName("Recarregar o stack deve recalcular o fingerprint")
+        void refillShouldRecomputeFingerprint() {
+            Buzz buzz = raise();
+            long before = buzz.fingerprint();
+
+            buzz.fillInStackTrace();
+
+            assertNotEquals(before, buzz.fingerprint());
+        }
+
+        @Test
+        @DisplayName("Buzz sem stack deve ter fingerprint constante")
+        void stacklessShouldHaveConstantFingerprint() {
+            assertEquals(
+                    Buzz.stackless(1, "A", "a").fingerprint(),
+                    Buzz.stackless(2, "B", "b").fingerprint());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+@DisplayName("Testes para BuzzTranslator")
+class BuzzTranslatorTest {
+
+    interface Retryable {}
+
+    static final class FlakyException extends IllegalStateException implements Retryable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private final BuzzTranslator translator =
+            BuzzTranslator.builder()
+                    .map(FileNotFoundException.class, 0x404, "FILE")
+                    .map(IOException.class, 0x300, "IO")
+                    .map(TimeoutException.class, 0x504, "TIMEOUT", BuzzStack.Capture.top(2))
+                    .map(Retryable.class, 0x503, "RETRY")
+                    .build(0x500, "INTERNAL");
+
+    @Nested
+    @DisplayName("Testes de Resolução")
+    class ResolutionTests {
+
+        @Test
+        @DisplayName("Deve usar o tipo mapeado mais específico")
+        void shouldUseMostSpecificType() {
+            Buzz missing = translator.translate(new FileNotFoundException("a.txt"));
+            Buzz io = translator.translate(new IOException("disco"));
+
+            assertEquals(0x404, missing.code());
+            assertEquals("FILE", missing.bee());
+            assertEquals("a.txt", missing.msg());
+            assertEquals(0x300, io.code());
+        }
+
+        @Test
+        @DisplayName("Subclasses não mapeadas devem herdar o mapeamento")
+        void subclassesShouldInherit() {
+            assertEquals(0x300, translator.code(java.net.SocketException.class));
+            assertEquals(0x404, translator.code(FileNotFoundException.class));
+        }
+
+        @Test
+        @DisplayName("Interfaces também devem ser consideradas")
+        void interfacesShouldMatch() {
+            assertEquals(0x503, translator.translate(new FlakyException()).code());
+        }
+
+        @Test
+        @DisplayName("Tipo não mapeado deve usar o padrão")
+        void unmappedShouldUseDefault() {
+            Buzz buzz = translator.translate(new IllegalArgumentException("ruim"));
+
+            assertEquals(0x500, buzz.code());
+            assertEquals("INTERNAL", buzz.bee());
+            assertEquals("ruim", buzz.msg());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Cadeia de Causas")
+    class CauseChainTests {
+
+        @Test
+        @DisplayName("Deve manter a exceção original como causa")
+        void shouldKeepOriginalAsCause() {
+            IOException e = new IOException("disco");
+
+            assertSame(e, translator.translate(e).getCause());
+        }
+
+        @Test
+        @DisplayName("Deve usar o primeiro elo mapeado da cadeia")
+        void shouldUseFirstMappedLink() {
+            IOException io = new FileNotFoundException("b.txt");
+            ExecutionException wrapper = new ExecutionException(new UncheckedIOException(io));
+
+            Buzz buzz = translator.translate(wrapper);
+
+            assertEquals(0x404, buzz.code());
+            assertEquals("b.txt", buzz.msg());
+            assertSame(wrapper, buzz.getCause());
+        }
+
+        @Test
+        @DisplayName("Buzz na cadeia deve manter seu código")
+        void buzzInChainShouldKeepCode() {
+            Buzz inner = Buzz.stackless(0x42, "INNER", "dentro");
+            ExecutionException wrapper = new ExecutionException(inner);
+
+            Buzz buzz = translator.translate(wrapper);
+
+            assertEquals(0x42, buzz.code());
+            assertEquals("INNER", buzz.bee());
+            assertSame(wrapper, buzz.getCause());
+        }
+
+        @Test
+        @DisplayName("Buzz deve ser devolvido como está")
+        void buzzShouldPassThrough() {
+            Buzz buzz = Buzz.stackless(1, "A", "a");
+
+            assertSame(buzz, translator.translate(buzz));
+        }
+
+        @Test
+        @DisplayName("Causas cíclicas não devem travar")
+        void cyclicCausesShouldTerminate() {
+            IllegalStateException a = new IllegalStateException("a");
+            IllegalArgumentException b = new IllegalArgumentException("b", a);
+            a.initCause(b);
+
+            assertEquals(0x500, translator.translate(a).code());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de Stack")
+    class StackTests {
+
+        @Test
+        @DisplayName("Sem configuração não deve capturar stack")
+        void shouldNotCaptureByDefault() {
+            Buzz buzz = translator.translate(new IOException());
+
+            assertEquals(BuzzStack.Kind.NONE, buzz.capture().kind());
+            assertEquals(0, buzz.getStackTrace().length);
+        }
+
+        @Test
+        @DisplayName("Captura configurada deve ser usada")
+        void configuredCaptureShouldApply() {
+            Buzz timeout = translator.translate(new TimeoutException());
+            Buzz everything =
+                    BuzzTranslator.builder()
+                            .capture(BuzzStack.Capture.top(1))
+                            .build(0x500, "INTERNAL")
+                            .translate(new IllegalStateException());
+
+            assertEquals(2, timeout.getStackTrace().length);
+            assertEquals(1, everything.getStackTrace().length);
+        }
+    }
+
+    @Test
+    @DisplayName("Cada mapeamento deve ter sua própria amostragem")
+    void mappingsShouldSampleSeparately() {
+        BuzzTranslator sampled =
+                BuzzTranslator.builder()
+                        .capture(BuzzStack.Capture.oneIn(BuzzStack.Capture.top(1), 1_000_000))
+                        .map(IOException.class, 0x300, "IO")
+                        .map(TimeoutException.class, 0x504, "TIMEOUT")
+                        .build(0x500, "INTERNAL");
+
+        assertEquals(1, sampled.translate(new IOException()).getStackTrace().length);
+        assertEquals(1, sampled.translate(new TimeoutException()).getStackTrace().length);
+        assertEquals(1, sampled.translate(new IllegalStateException()).getStackTrace().length);
+        assertEquals(0, sampled.translate(new IOException()).getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar mapeamentos inválidos")
+    void shouldRejectInvalidMappings() {
+        BuzzTranslator.Builder builder = BuzzTranslator.builder().map(IOException.class, 1, "A");
+
+        assertThrows(IllegalArgumentException.class, () -> builder.map(IOException.class, 2, "B"));
+        assertThrows(IllegalArgumentException.class, () -> builder.map(Buzz.class, 2, "B"));
+        assertThrows(IllegalArgumentException.class, () -> builder.map(String.class, 2, "B"));
+        assertThrows(NullPointerException.class, () -> builder.map(null, 2, "B"));
+        assertThrows(NullPointerException.class, () -> builder.capture(null));
+    }
+}
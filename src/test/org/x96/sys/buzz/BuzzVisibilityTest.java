@@ -69,8 +69,27 @@ class BuzzVisibilityTest {
                             .count();
 
             // Assert
-            assertEquals(2, constructors.length, "Deve ter exatamente 2 construtores");
-            assertEquals(2, publicConstructors, "Ambos construtores devem ser públicos");
+            assertEquals(5, constructors.length, "Deve ter exatamente 5 construtores");
+            assertEquals(2, publicConstructors, "Dois construtores devem ser públicos");
+        }
+
+        @Test
+        @DisplayName("Construtor completo deve ser protegido")
+        void fullConstructorShouldBeProtected() throws Exception {
+            // Act
+            Constructor<Buzz> constructor =
+                    Buzz.class.getDeclaredConstructor(
+                            int.class,
+                            String.class,
+                            String.class,
+                            Throwable.class,
+                            boolean.class,
+                            boolean.class);
+
+            // Assert
+            assertTrue(
+                    Modifier.isProtected(constructor.getModifiers()),
+                    "O construtor completo deve ser protegido");
         }
     }
 
@@ -100,6 +119,28 @@ class BuzzVisibilityTest {
                     "O método format não deve ser protegido");
         }
 
+        @Test
+        @DisplayName("Acessores devem ser públicos e de instância")
+        void accessorsShouldBePublicInstanceMethods() throws Exception {
+            // Act
+            Method[] accessors = {
+                Buzz.class.getMethod("code"),
+                Buzz.class.getMethod("bee"),
+                Buzz.class.getMethod("msg"),
+                Buzz.class.getMethod("is", int.class)
+            };
+
+            // Assert
+            for (Method accessor : accessors) {
+                assertTrue(
+                        Modifier.isPublic(accessor.getModifiers()),
+                        accessor.getName() + " deve ser público");
+                assertFalse(
+                        Modifier.isStatic(accessor.getModifiers()),
+                        accessor.getName() + " não deve ser estático");
+            }
+        }
+
         @Test
         @DisplayName("Método format deve ser acessível de outra classe")
         void formatMethodShouldBeAccessibleFromAnotherClass() {
@@ -181,13 +222,13 @@ class BuzzVisibilityTest {
         }
 
         @Test
-        @DisplayName("Deve ter exatamente 4 campos declarados")
-        void shouldHaveExactlyFourDeclaredFields() {
+        @DisplayName("Deve ter exatamente 18 campos declarados")
+        void shouldHaveExactlyEighteenDeclaredFields() {
             // Act
             Field[] fields = Buzz.class.getDeclaredFields();
 
             // Assert
-            assertEquals(4, fields.length, "Deve ter exatamente 4 campos declarados");
+            assertEquals(18, fields.length, "Deve ter exatamente 18 campos declarados");
         }
 
         @Test
@@ -404,7 +445,11 @@ class BuzzVisibilityTest {
                     publicFields.length,
                     "Deve ter exatamente 3 campos públicos (constantes ANSI)");
             assertEquals(
-                    1, ownPublicMethods, "Deve ter exatamente 1 método público próprio (format)");
+                    19,
+                    ownPublicMethods,
+                    "Deve ter exatamente 19 métodos públicos próprios (format, getMessage,"
+                            + " fillInStackTrace, stackless, cached, of, captured, code, bee, msg,"
+                            + " template, capture, context, fingerprint e is)");
 
             // Verificar que métodos herdados também estão disponíveis
             assertTrue(publicMethods.length > 1, "Deve ter métodos herdados acessíveis");
@@ -0,0 +1,62 @@
+package org.x96.sys.buzz;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Testes para a tabela IntTable")
+class IntTableTest {
+
+    @Test
+    @DisplayName("Tabela vazia não deve conter chaves")
+    void emptyTableShouldHaveNoKeys() {
+        IntTable<String> table = IntTable.empty();
+
+        assertEquals(0, table.size());
+        assertNull(table.get(0));
+        assertNull(table.get(-1));
+    }
+
+    @Test
+    @DisplayName("Deve guardar e encontrar muitas chaves")
+    void shouldStoreAndFindManyKeys() {
+        IntTable<String> table = IntTable.empty();
+        for (int i = -500; i < 500; i++) {
+            table = table.with(i * 7919, "v" + i);
+        }
+
+        assertEquals(1000, table.size());
+        for (int i = -500; i < 500; i++) {
+            assertEquals("v" + i, table.get(i * 7919));
+        }
+        assertNull(table.get(1));
+        assertTrue(table.capacity() >= 2 * table.size());
+    }
+
+    @Test
+    @DisplayName("Deve substituir sem alterar o tamanho")
+    void shouldReplaceWithoutGrowing() {
+        IntTable<String> table = IntTable.<String>empty().with(404, "a").with(404, "b");
+
+        assertEquals(1, table.size());
+        assertEquals("b", table.get(404));
+    }
+
+    @Test
+    @DisplayName("Deve ser imutável")
+    void shouldBeImmutable() {
+        IntTable<String> before = IntTable.<String>empty().with(1, "um");
+        IntTable<String> after = before.with(2, "dois");
+
+        assertNull(before.get(2));
+        assertEquals("dois", after.get(2));
+        assertEquals("um", after.get(1));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores nulos")
+    void shouldRejectNullValues() {
+        assertThrows(NullPointerException.class, () -> IntTable.empty().with(1, null));
+    }
+}